@@ -13,9 +13,12 @@ echo.
 echo ========================================
 echo Compiling Java Solutions...
 echo ========================================
+rem -sourcepath lets javac find the classes a file uses (TreeNode,
+rem MappedIntArray, ...) when each file is compiled on its own
+
 
 echo Compiling TwoSum.java...
-javac -d bin java/TwoSum.java
+javac -d bin -sourcepath java java/dsa/TwoSum.java
 if %errorlevel% equ 0 (
     echo ✓ TwoSum.java compiled successfully
 ) else (
@@ -23,7 +26,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling ReverseLinkedList.java...
-javac -d bin java/ReverseLinkedList.java
+javac -d bin -sourcepath java java/dsa/ReverseLinkedList.java
 if %errorlevel% equ 0 (
     echo ✓ ReverseLinkedList.java compiled successfully
 ) else (
@@ -31,7 +34,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling ValidParentheses.java...
-javac -d bin java/ValidParentheses.java
+javac -d bin -sourcepath java java/dsa/ValidParentheses.java
 if %errorlevel% equ 0 (
     echo ✓ ValidParentheses.java compiled successfully
 ) else (
@@ -39,7 +42,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling MaximumSubarray.java...
-javac -d bin java/MaximumSubarray.java
+javac -d bin -sourcepath java java/dsa/MaximumSubarray.java
 if %errorlevel% equ 0 (
     echo ✓ MaximumSubarray.java compiled successfully
 ) else (
@@ -47,7 +50,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling BinaryTreeTraversal.java...
-javac -d bin java/BinaryTreeTraversal.java
+javac -d bin -sourcepath java java/dsa/BinaryTreeTraversal.java
 if %errorlevel% equ 0 (
     echo ✓ BinaryTreeTraversal.java compiled successfully
 ) else (
@@ -55,7 +58,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling QueueWithStacks.java...
-javac -d bin java/QueueWithStacks.java
+javac -d bin -sourcepath java java/dsa/QueueWithStacks.java
 if %errorlevel% equ 0 (
     echo ✓ QueueWithStacks.java compiled successfully
 ) else (
@@ -63,7 +66,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling RemoveDuplicates.java...
-javac -d bin java/RemoveDuplicates.java
+javac -d bin -sourcepath java java/dsa/RemoveDuplicates.java
 if %errorlevel% equ 0 (
     echo ✓ RemoveDuplicates.java compiled successfully
 ) else (
@@ -71,7 +74,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling RotateArray.java...
-javac -d bin java/RotateArray.java
+javac -d bin -sourcepath java java/dsa/RotateArray.java
 if %errorlevel% equ 0 (
     echo ✓ RotateArray.java compiled successfully
 ) else (
@@ -79,7 +82,7 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling MergeSortedArray.java...
-javac -d bin java/MergeSortedArray.java
+javac -d bin -sourcepath java java/dsa/MergeSortedArray.java
 if %errorlevel% equ 0 (
     echo ✓ MergeSortedArray.java compiled successfully
 ) else (
@@ -87,13 +90,53 @@ if %errorlevel% equ 0 (
 )
 
 echo Compiling MinStack.java...
-javac -d bin java/MinStack.java
+javac -d bin -sourcepath java java/dsa/MinStack.java
 if %errorlevel% equ 0 (
     echo ✓ MinStack.java compiled successfully
 ) else (
     echo ✗ Error compiling MinStack.java
 )
 
+echo Compiling MinMaxQueue.java...
+javac -d bin -sourcepath java java/dsa/MinMaxQueue.java
+if %errorlevel% equ 0 (
+    echo ✓ MinMaxQueue.java compiled successfully
+) else (
+    echo ✗ Error compiling MinMaxQueue.java
+)
+
+echo Compiling RangeMaxSubarray.java...
+javac -d bin -sourcepath java java/dsa/RangeMaxSubarray.java
+if %errorlevel% equ 0 (
+    echo ✓ RangeMaxSubarray.java compiled successfully
+) else (
+    echo ✗ Error compiling RangeMaxSubarray.java
+)
+
+echo Compiling FlatBinaryTree.java...
+javac -d bin -sourcepath java java/dsa/FlatBinaryTree.java
+if %errorlevel% equ 0 (
+    echo ✓ FlatBinaryTree.java compiled successfully
+) else (
+    echo ✗ Error compiling FlatBinaryTree.java
+)
+
+echo Compiling MappedIntArray.java...
+javac -d bin -sourcepath java java/dsa/MappedIntArray.java
+if %errorlevel% equ 0 (
+    echo ✓ MappedIntArray.java compiled successfully
+) else (
+    echo ✗ Error compiling MappedIntArray.java
+)
+
+echo Compiling KWayMerge.java...
+javac -d bin -sourcepath java java/dsa/KWayMerge.java
+if %errorlevel% equ 0 (
+    echo ✓ KWayMerge.java compiled successfully
+) else (
+    echo ✗ Error compiling KWayMerge.java
+)
+
 echo.
 echo ========================================
 echo Compiling C++ Solutions...
@@ -185,16 +228,21 @@ echo Compilation Complete!
 echo ========================================
 echo.
 echo To run Java programs:
-echo   java -cp bin TwoSum
-echo   java -cp bin ReverseLinkedList
-echo   java -cp bin ValidParentheses
-echo   java -cp bin MaximumSubarray
-echo   java -cp bin BinaryTreeTraversal
-echo   java -cp bin QueueWithStacks
-echo   java -cp bin RemoveDuplicates
-echo   java -cp bin RotateArray
-echo   java -cp bin MergeSortedArray
-echo   java -cp bin MinStack
+echo   java -cp bin dsa.TwoSum
+echo   java -cp bin dsa.ReverseLinkedList
+echo   java -cp bin dsa.ValidParentheses
+echo   java -cp bin dsa.MaximumSubarray
+echo   java -cp bin dsa.BinaryTreeTraversal
+echo   java -cp bin dsa.QueueWithStacks
+echo   java -cp bin dsa.RemoveDuplicates
+echo   java -cp bin dsa.RotateArray
+echo   java -cp bin dsa.MergeSortedArray
+echo   java -cp bin dsa.MinStack
+echo   java -cp bin dsa.MinMaxQueue
+echo   java -cp bin dsa.RangeMaxSubarray
+echo   java -cp bin dsa.FlatBinaryTree
+echo   java -cp bin dsa.MappedIntArray
+echo   java -cp bin dsa.KWayMerge
 echo.
 echo To run C++ programs:
 echo   bin\TwoSum.exe
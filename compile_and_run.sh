@@ -12,9 +12,11 @@ echo
 echo "========================================"
 echo "Compiling Java Solutions..."
 echo "========================================"
+# -sourcepath lets javac find the classes a file uses (TreeNode,
+# MappedIntArray, ...) when each file is compiled on its own
 
 echo "Compiling TwoSum.java..."
-javac -d bin java/TwoSum.java
+javac -d bin -sourcepath java java/dsa/TwoSum.java
 if [ $? -eq 0 ]; then
     echo "✓ TwoSum.java compiled successfully"
 else
@@ -22,7 +24,7 @@ else
 fi
 
 echo "Compiling ReverseLinkedList.java..."
-javac -d bin java/ReverseLinkedList.java
+javac -d bin -sourcepath java java/dsa/ReverseLinkedList.java
 if [ $? -eq 0 ]; then
     echo "✓ ReverseLinkedList.java compiled successfully"
 else
@@ -30,7 +32,7 @@ else
 fi
 
 echo "Compiling ValidParentheses.java..."
-javac -d bin java/ValidParentheses.java
+javac -d bin -sourcepath java java/dsa/ValidParentheses.java
 if [ $? -eq 0 ]; then
     echo "✓ ValidParentheses.java compiled successfully"
 else
@@ -38,7 +40,7 @@ else
 fi
 
 echo "Compiling MaximumSubarray.java..."
-javac -d bin java/MaximumSubarray.java
+javac -d bin -sourcepath java java/dsa/MaximumSubarray.java
 if [ $? -eq 0 ]; then
     echo "✓ MaximumSubarray.java compiled successfully"
 else
@@ -46,7 +48,7 @@ else
 fi
 
 echo "Compiling BinaryTreeTraversal.java..."
-javac -d bin java/BinaryTreeTraversal.java
+javac -d bin -sourcepath java java/dsa/BinaryTreeTraversal.java
 if [ $? -eq 0 ]; then
     echo "✓ BinaryTreeTraversal.java compiled successfully"
 else
@@ -54,13 +56,85 @@ else
 fi
 
 echo "Compiling QueueWithStacks.java..."
-javac -d bin java/QueueWithStacks.java
+javac -d bin -sourcepath java java/dsa/QueueWithStacks.java
 if [ $? -eq 0 ]; then
     echo "✓ QueueWithStacks.java compiled successfully"
 else
     echo "✗ Error compiling QueueWithStacks.java"
 fi
 
+echo "Compiling RemoveDuplicates.java..."
+javac -d bin -sourcepath java java/dsa/RemoveDuplicates.java
+if [ $? -eq 0 ]; then
+    echo "✓ RemoveDuplicates.java compiled successfully"
+else
+    echo "✗ Error compiling RemoveDuplicates.java"
+fi
+
+echo "Compiling RotateArray.java..."
+javac -d bin -sourcepath java java/dsa/RotateArray.java
+if [ $? -eq 0 ]; then
+    echo "✓ RotateArray.java compiled successfully"
+else
+    echo "✗ Error compiling RotateArray.java"
+fi
+
+echo "Compiling MergeSortedArray.java..."
+javac -d bin -sourcepath java java/dsa/MergeSortedArray.java
+if [ $? -eq 0 ]; then
+    echo "✓ MergeSortedArray.java compiled successfully"
+else
+    echo "✗ Error compiling MergeSortedArray.java"
+fi
+
+echo "Compiling MinStack.java..."
+javac -d bin -sourcepath java java/dsa/MinStack.java
+if [ $? -eq 0 ]; then
+    echo "✓ MinStack.java compiled successfully"
+else
+    echo "✗ Error compiling MinStack.java"
+fi
+
+echo "Compiling MinMaxQueue.java..."
+javac -d bin -sourcepath java java/dsa/MinMaxQueue.java
+if [ $? -eq 0 ]; then
+    echo "✓ MinMaxQueue.java compiled successfully"
+else
+    echo "✗ Error compiling MinMaxQueue.java"
+fi
+
+echo "Compiling RangeMaxSubarray.java..."
+javac -d bin -sourcepath java java/dsa/RangeMaxSubarray.java
+if [ $? -eq 0 ]; then
+    echo "✓ RangeMaxSubarray.java compiled successfully"
+else
+    echo "✗ Error compiling RangeMaxSubarray.java"
+fi
+
+echo "Compiling FlatBinaryTree.java..."
+javac -d bin -sourcepath java java/dsa/FlatBinaryTree.java
+if [ $? -eq 0 ]; then
+    echo "✓ FlatBinaryTree.java compiled successfully"
+else
+    echo "✗ Error compiling FlatBinaryTree.java"
+fi
+
+echo "Compiling MappedIntArray.java..."
+javac -d bin -sourcepath java java/dsa/MappedIntArray.java
+if [ $? -eq 0 ]; then
+    echo "✓ MappedIntArray.java compiled successfully"
+else
+    echo "✗ Error compiling MappedIntArray.java"
+fi
+
+echo "Compiling KWayMerge.java..."
+javac -d bin -sourcepath java java/dsa/KWayMerge.java
+if [ $? -eq 0 ]; then
+    echo "✓ KWayMerge.java compiled successfully"
+else
+    echo "✗ Error compiling KWayMerge.java"
+fi
+
 echo
 echo "========================================"
 echo "Compiling C++ Solutions..."
@@ -120,12 +194,21 @@ echo "Compilation Complete!"
 echo "========================================"
 echo
 echo "To run Java programs:"
-echo "  java -cp bin TwoSum"
-echo "  java -cp bin ReverseLinkedList"
-echo "  java -cp bin ValidParentheses"
-echo "  java -cp bin MaximumSubarray"
-echo "  java -cp bin BinaryTreeTraversal"
-echo "  java -cp bin QueueWithStacks"
+echo "  java -cp bin dsa.TwoSum"
+echo "  java -cp bin dsa.ReverseLinkedList"
+echo "  java -cp bin dsa.ValidParentheses"
+echo "  java -cp bin dsa.MaximumSubarray"
+echo "  java -cp bin dsa.BinaryTreeTraversal"
+echo "  java -cp bin dsa.QueueWithStacks"
+echo "  java -cp bin dsa.RemoveDuplicates"
+echo "  java -cp bin dsa.RotateArray"
+echo "  java -cp bin dsa.MergeSortedArray"
+echo "  java -cp bin dsa.MinStack"
+echo "  java -cp bin dsa.MinMaxQueue"
+echo "  java -cp bin dsa.RangeMaxSubarray"
+echo "  java -cp bin dsa.FlatBinaryTree"
+echo "  java -cp bin dsa.MappedIntArray"
+echo "  java -cp bin dsa.KWayMerge"
 echo
 echo "To run C++ programs:"
 echo "  ./bin/TwoSum"
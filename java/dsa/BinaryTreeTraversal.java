@@ -0,0 +1,1137 @@
+package dsa;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Binary Tree Traversal Solutions
+ * 
+ * Contains implementations for:
+ * - Inorder Traversal (Left -> Root -> Right)
+ * - Preorder Traversal (Root -> Left -> Right)
+ * - Postorder Traversal (Left -> Right -> Root)
+ * - Level Order Traversal (Breadth-First)
+ * - Morris Traversals (threaded, O(1) extra space)
+ * - Parallel Traversals and Reduction (Fork/Join)
+ * - Lazy Iterators, Spliterators and IntStreams
+ * 
+ * Time Complexity: O(n) for all traversals
+ * Space Complexity: O(h) for recursive, O(n) for iterative
+ */
+public class BinaryTreeTraversal {
+    
+    // ========== INORDER TRAVERSAL ==========
+    
+    // Recursive Inorder
+    public static List<Integer> inorderTraversalRecursive(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        inorderHelper(root, result);
+        return result;
+    }
+    
+    private static void inorderHelper(TreeNode node, List<Integer> result) {
+        if (node == null) return;
+        
+        inorderHelper(node.left, result);
+        result.add(node.val);
+        inorderHelper(node.right, result);
+    }
+    
+    // Iterative Inorder using Stack
+    public static List<Integer> inorderTraversalIterative(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        Stack<TreeNode> stack = new Stack<>();
+        TreeNode current = root;
+        
+        while (current != null || !stack.isEmpty()) {
+            // Reach the leftmost node
+            while (current != null) {
+                stack.push(current);
+                current = current.left;
+            }
+            
+            // Process current node
+            current = stack.pop();
+            result.add(current.val);
+            
+            // Move to right subtree
+            current = current.right;
+        }
+        
+        return result;
+    }
+    
+    // ========== PREORDER TRAVERSAL ==========
+    
+    // Recursive Preorder
+    public static List<Integer> preorderTraversalRecursive(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        preorderHelper(root, result);
+        return result;
+    }
+    
+    private static void preorderHelper(TreeNode node, List<Integer> result) {
+        if (node == null) return;
+        
+        result.add(node.val);
+        preorderHelper(node.left, result);
+        preorderHelper(node.right, result);
+    }
+    
+    // Iterative Preorder using Stack
+    public static List<Integer> preorderTraversalIterative(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        if (root == null) return result;
+        
+        Stack<TreeNode> stack = new Stack<>();
+        stack.push(root);
+        
+        while (!stack.isEmpty()) {
+            TreeNode current = stack.pop();
+            result.add(current.val);
+            
+            // Push right first, then left (so left is processed first)
+            if (current.right != null) {
+                stack.push(current.right);
+            }
+            if (current.left != null) {
+                stack.push(current.left);
+            }
+        }
+        
+        return result;
+    }
+    
+    // ========== POSTORDER TRAVERSAL ==========
+    
+    // Recursive Postorder
+    public static List<Integer> postorderTraversalRecursive(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        postorderHelper(root, result);
+        return result;
+    }
+    
+    private static void postorderHelper(TreeNode node, List<Integer> result) {
+        if (node == null) return;
+        
+        postorderHelper(node.left, result);
+        postorderHelper(node.right, result);
+        result.add(node.val);
+    }
+    
+    // Iterative Postorder using Stack
+    public static List<Integer> postorderTraversalIterative(TreeNode root) {
+        List<Integer> result = new ArrayList<>();
+        if (root == null) return result;
+        
+        Stack<TreeNode> stack = new Stack<>();
+        stack.push(root);
+        
+        while (!stack.isEmpty()) {
+            TreeNode current = stack.pop();
+            result.add(current.val); // Root -> Right -> Left, reversed below
+            
+            // Push left first, then right
+            if (current.left != null) {
+                stack.push(current.left);
+            }
+            if (current.right != null) {
+                stack.push(current.right);
+            }
+        }
+        
+        // Reversing once is O(n); inserting each value at the front was O(n^2)
+        Collections.reverse(result);
+        return result;
+    }
+    
+    // ========== LEVEL ORDER TRAVERSAL ==========
+    
+    // Level Order Traversal (Breadth-First)
+    public static List<List<Integer>> levelOrderTraversal(TreeNode root) {
+        List<List<Integer>> result = new ArrayList<>();
+        if (root == null) return result;
+        
+        Queue<TreeNode> queue = new LinkedList<>();
+        queue.offer(root);
+        
+        while (!queue.isEmpty()) {
+            int levelSize = queue.size();
+            List<Integer> currentLevel = new ArrayList<>();
+            
+            for (int i = 0; i < levelSize; i++) {
+                TreeNode current = queue.poll();
+                currentLevel.add(current.val);
+                
+                if (current.left != null) {
+                    queue.offer(current.left);
+                }
+                if (current.right != null) {
+                    queue.offer(current.right);
+                }
+            }
+            
+            result.add(currentLevel);
+        }
+        
+        return result;
+    }
+    
+    // ========== ALLOCATION-FREE TRAVERSALS ==========
+    
+    /**
+     * Reusable traverser: values go to an IntConsumer or straight into an
+     * int[], nothing is boxed, and the stack is a plain TreeNode[] that
+     * grows to the tree height once and is then reused. Postorder tracks
+     * the last visited node instead of reversing, so it is linear and
+     * emits values in order.
+     * 
+     * Not thread-safe; use one Traverser per thread.
+     */
+    public static final class Traverser {
+        private TreeNode[] stack;
+        private int maxDepth;
+        private final ArrayWriter writer = new ArrayWriter();
+        
+        public Traverser() {
+            this(16);
+        }
+        
+        /**
+         * Presizes the stack for trees of up to the given height
+         */
+        public Traverser(int height) {
+            stack = new TreeNode[Math.max(1, height)];
+        }
+        
+        public void inorder(TreeNode root, IntConsumer visitor) {
+            int depth = 0;
+            TreeNode current = root;
+            
+            while (current != null || depth > 0) {
+                // Reach the leftmost node
+                while (current != null) {
+                    depth = push(current, depth);
+                    current = current.left;
+                }
+                current = stack[--depth];
+                visitor.accept(current.val);
+                current = current.right;
+            }
+            release();
+        }
+        
+        public void preorder(TreeNode root, IntConsumer visitor) {
+            int depth = 0;
+            TreeNode current = root;
+            
+            while (current != null) {
+                visitor.accept(current.val);
+                // Park the right child; at most one per level is waiting
+                if (current.right != null) {
+                    depth = push(current.right, depth);
+                }
+                current = current.left != null ? current.left : depth > 0 ? stack[--depth] : null;
+            }
+            release();
+        }
+        
+        public void postorder(TreeNode root, IntConsumer visitor) {
+            int depth = 0;
+            TreeNode current = root;
+            TreeNode lastVisited = null;
+            
+            while (current != null || depth > 0) {
+                while (current != null) {
+                    depth = push(current, depth);
+                    current = current.left;
+                }
+                TreeNode top = stack[depth - 1];
+                if (top.right != null && top.right != lastVisited) {
+                    current = top.right; // Right subtree first
+                } else {
+                    visitor.accept(top.val);
+                    lastVisited = top;
+                    depth--;
+                }
+            }
+            release();
+        }
+        
+        /**
+         * Writes the inorder traversal into out and returns the node count
+         */
+        public int inorder(TreeNode root, int[] out) {
+            inorder(root, writer.reset(out));
+            return writer.count;
+        }
+        
+        public int preorder(TreeNode root, int[] out) {
+            preorder(root, writer.reset(out));
+            return writer.count;
+        }
+        
+        public int postorder(TreeNode root, int[] out) {
+            postorder(root, writer.reset(out));
+            return writer.count;
+        }
+        
+        private int push(TreeNode node, int depth) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth] = node;
+            maxDepth = Math.max(maxDepth, depth + 1);
+            return depth + 1;
+        }
+        
+        // Drop references so the reused stack does not keep a tree alive
+        private void release() {
+            Arrays.fill(stack, 0, maxDepth, null);
+            maxDepth = 0;
+            writer.out = null;
+        }
+    }
+    
+    private static final class ArrayWriter implements IntConsumer {
+        int[] out;
+        int count;
+        
+        ArrayWriter reset(int[] out) {
+            return reset(out, 0);
+        }
+        
+        ArrayWriter reset(int[] out, int offset) {
+            this.out = out;
+            this.count = offset;
+            return this;
+        }
+        
+        @Override
+        public void accept(int value) {
+            out[count++] = value;
+        }
+    }
+    
+    // ========== MORRIS TRAVERSALS ==========
+    
+    /*
+     * Morris traversals use O(1) extra space: instead of a stack, the
+     * rightmost node of a left subtree (the inorder predecessor) gets a
+     * temporary right link back to its ancestor, which is followed and
+     * removed on the way back up. Every edge is walked at most a constant
+     * number of times, so they are O(n), and no recursion means no
+     * StackOverflowError however deep the tree.
+     * 
+     * The tree is modified during the traversal and restored by the end;
+     * it must not be read by other threads meanwhile, and if the visitor
+     * throws, the tree is left with some links rewired.
+     */
+    
+    public static void morrisInorder(TreeNode root, IntConsumer visitor) {
+        TreeNode current = root;
+        
+        while (current != null) {
+            if (current.left == null) {
+                visitor.accept(current.val);
+                current = current.right;
+                continue;
+            }
+            TreeNode predecessor = rightmostBelow(current);
+            if (predecessor.right == null) {
+                predecessor.right = current; // Thread back, then go left
+                current = current.left;
+            } else {
+                predecessor.right = null; // Left subtree done: unthread
+                visitor.accept(current.val);
+                current = current.right;
+            }
+        }
+    }
+    
+    public static void morrisPreorder(TreeNode root, IntConsumer visitor) {
+        TreeNode current = root;
+        
+        while (current != null) {
+            if (current.left == null) {
+                visitor.accept(current.val);
+                current = current.right;
+                continue;
+            }
+            TreeNode predecessor = rightmostBelow(current);
+            if (predecessor.right == null) {
+                visitor.accept(current.val); // First arrival
+                predecessor.right = current;
+                current = current.left;
+            } else {
+                predecessor.right = null;
+                current = current.right;
+            }
+        }
+    }
+    
+    /**
+     * When a thread is removed, the right spine of the finished left
+     * subtree is emitted bottom-up by reversing it in place, visiting it
+     * and reversing it back. The root's own right spine comes last.
+     */
+    public static void morrisPostorder(TreeNode root, IntConsumer visitor) {
+        TreeNode current = root;
+        
+        while (current != null) {
+            if (current.left == null) {
+                current = current.right;
+                continue;
+            }
+            TreeNode predecessor = rightmostBelow(current);
+            if (predecessor.right == null) {
+                predecessor.right = current;
+                current = current.left;
+            } else {
+                predecessor.right = null;
+                visitRightSpineReversed(current.left, visitor);
+                current = current.right;
+            }
+        }
+        visitRightSpineReversed(root, visitor);
+    }
+    
+    // Inorder predecessor of node (which has a left child), or the node
+    // whose thread already points back at it
+    private static TreeNode rightmostBelow(TreeNode node) {
+        TreeNode predecessor = node.left;
+        while (predecessor.right != null && predecessor.right != node) {
+            predecessor = predecessor.right;
+        }
+        return predecessor;
+    }
+    
+    private static void visitRightSpineReversed(TreeNode top, IntConsumer visitor) {
+        TreeNode bottom = reverseRightSpine(top);
+        for (TreeNode node = bottom; node != null; node = node.right) {
+            visitor.accept(node.val);
+        }
+        reverseRightSpine(bottom);
+    }
+    
+    // Reverses the right links of the chain starting at top; returns the new head
+    private static TreeNode reverseRightSpine(TreeNode top) {
+        TreeNode previous = null;
+        TreeNode node = top;
+        while (node != null) {
+            TreeNode next = node.right;
+            node.right = previous;
+            previous = node;
+            node = next;
+        }
+        return previous;
+    }
+    
+    // ========== PARALLEL TRAVERSALS ==========
+    
+    /*
+     * Fork/Join traversals for large trees. A first pass counts, in
+     * parallel, the nodes of every subtree down to a split depth. With the
+     * sizes known, the slice of the output array that each subtree fills is
+     * fixed in advance (inorder: left, node, right), so workers write their
+     * subtrees straight into place and nothing has to be concatenated.
+     * Subtrees below the split depth, or smaller than the grain, are walked
+     * sequentially with a Traverser.
+     * 
+     * reduceParallel skips the counting pass: the order of the values does
+     * not matter, so subtrees are accumulated independently and the partial
+     * results combined.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    public static int[] inorderParallel(TreeNode root) {
+        return inorderParallel(root, ForkJoinPool.commonPool());
+    }
+    
+    public static int[] inorderParallel(TreeNode root, ForkJoinPool pool) {
+        return traverseParallel(root, Order.INORDER, pool);
+    }
+    
+    public static int[] preorderParallel(TreeNode root) {
+        return preorderParallel(root, ForkJoinPool.commonPool());
+    }
+    
+    public static int[] preorderParallel(TreeNode root, ForkJoinPool pool) {
+        return traverseParallel(root, Order.PREORDER, pool);
+    }
+    
+    public static int[] postorderParallel(TreeNode root) {
+        return postorderParallel(root, ForkJoinPool.commonPool());
+    }
+    
+    public static int[] postorderParallel(TreeNode root, ForkJoinPool pool) {
+        return traverseParallel(root, Order.POSTORDER, pool);
+    }
+    
+    /**
+     * Folds every value of the tree, in no particular order, into per-worker
+     * containers that are then merged, e.g. a sum:
+     * {@code reduceParallel(root, () -> new long[1], (a, v) -> a[0] += v,
+     * (a, b) -> { a[0] += b[0]; return a; })}
+     */
+    public static <A> A reduceParallel(TreeNode root, Supplier<A> supplier, ObjIntConsumer<A> accumulator,
+                                       BinaryOperator<A> combiner) {
+        return reduceParallel(root, supplier, accumulator, combiner, ForkJoinPool.commonPool());
+    }
+    
+    public static <A> A reduceParallel(TreeNode root, Supplier<A> supplier, ObjIntConsumer<A> accumulator,
+                                       BinaryOperator<A> combiner, ForkJoinPool pool) {
+        if (root == null) {
+            return supplier.get();
+        }
+        return pool.invoke(new ReduceTask<>(root, splitDepth(pool), supplier, accumulator, combiner));
+    }
+    
+    private enum Order { INORDER, PREORDER, POSTORDER }
+    
+    private static int[] traverseParallel(TreeNode root, Order order, ForkJoinPool pool) {
+        if (root == null) {
+            return new int[0];
+        }
+        Sized plan = pool.invoke(new SizeTask(root, splitDepth(pool)));
+        int[] out = new int[plan.size];
+        if (plan.size < PARALLEL_THRESHOLD) {
+            walk(root, order, out, 0);
+        } else {
+            int grain = Math.max(PARALLEL_THRESHOLD / 4, plan.size / (pool.getParallelism() * 4));
+            pool.invoke(new WriteTask(plan, order, out, 0, grain));
+        }
+        return out;
+    }
+    
+    // Enough levels for about 16 subtrees per worker
+    private static int splitDepth(ForkJoinPool pool) {
+        return 32 - Integer.numberOfLeadingZeros(pool.getParallelism() - 1) + 4;
+    }
+    
+    // Writes the subtree under node sequentially into out, starting at offset
+    private static void walk(TreeNode node, Order order, int[] out, int offset) {
+        Traverser traverser = new Traverser();
+        IntConsumer writer = new ArrayWriter().reset(out, offset);
+        switch (order) {
+            case INORDER: traverser.inorder(node, writer); break;
+            case PREORDER: traverser.preorder(node, writer); break;
+            default: traverser.postorder(node, writer); break;
+        }
+    }
+    
+    // Subtree size, with the sizes of its children down to the split depth;
+    // a subtree that was counted whole has no children here
+    private static final class Sized {
+        static final Sized EMPTY = new Sized(null, 0, null, null);
+        
+        final TreeNode node;
+        final int size;
+        final Sized left, right;
+        
+        Sized(TreeNode node, int size, Sized left, Sized right) {
+            this.node = node;
+            this.size = size;
+            this.left = left;
+            this.right = right;
+        }
+        
+        boolean isWhole() {
+            return left == null && right == null;
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class SizeTask extends RecursiveTask<Sized> {
+        private final TreeNode node;
+        private final int depth;
+        
+        SizeTask(TreeNode node, int depth) {
+            this.node = node;
+            this.depth = depth;
+        }
+        
+        @Override
+        protected Sized compute() {
+            if (node == null) {
+                return Sized.EMPTY;
+            }
+            if (depth == 0) {
+                int[] count = {0};
+                new Traverser().preorder(node, value -> count[0]++);
+                return new Sized(node, count[0], null, null);
+            }
+            SizeTask right = new SizeTask(node.right, depth - 1);
+            if (node.right != null) right.fork();
+            Sized left = new SizeTask(node.left, depth - 1).compute();
+            Sized rightSized = node.right != null ? right.join() : Sized.EMPTY;
+            return new Sized(node, left.size + 1 + rightSized.size, left, rightSized);
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class WriteTask extends RecursiveAction {
+        private final Sized plan;
+        private final Order order;
+        private final int[] out;
+        private final int offset, grain;
+        
+        WriteTask(Sized plan, Order order, int[] out, int offset, int grain) {
+            this.plan = plan;
+            this.order = order;
+            this.out = out;
+            this.offset = offset;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected void compute() {
+            if (plan.isWhole() || plan.size <= grain) {
+                walk(plan.node, order, out, offset);
+                return;
+            }
+            // Slices: inorder L n R, preorder n L R, postorder L R n
+            int leftSize = plan.left.size;
+            int rightSize = plan.right.size;
+            int leftOffset = order == Order.PREORDER ? offset + 1 : offset;
+            int rightOffset = order == Order.POSTORDER ? offset + leftSize : leftOffset + leftSize
+                + (order == Order.INORDER ? 1 : 0);
+            int nodeOffset = order == Order.INORDER ? offset + leftSize
+                : order == Order.PREORDER ? offset : offset + leftSize + rightSize;
+            out[nodeOffset] = plan.node.val;
+            invokeAll(new WriteTask(plan.left, order, out, leftOffset, grain),
+                new WriteTask(plan.right, order, out, rightOffset, grain));
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class ReduceTask<A> extends RecursiveTask<A> {
+        private final TreeNode node;
+        private final int depth;
+        private final Supplier<A> supplier;
+        private final ObjIntConsumer<A> accumulator;
+        private final BinaryOperator<A> combiner;
+        
+        ReduceTask(TreeNode node, int depth, Supplier<A> supplier, ObjIntConsumer<A> accumulator,
+                   BinaryOperator<A> combiner) {
+            this.node = node;
+            this.depth = depth;
+            this.supplier = supplier;
+            this.accumulator = accumulator;
+            this.combiner = combiner;
+        }
+        
+        @Override
+        protected A compute() {
+            if (depth == 0) {
+                A container = supplier.get();
+                new Traverser().preorder(node, value -> accumulator.accept(container, value));
+                return container;
+            }
+            ReduceTask<A> right = null;
+            if (node.right != null) {
+                right = new ReduceTask<>(node.right, depth - 1, supplier, accumulator, combiner);
+                right.fork();
+            }
+            A result = node.left != null
+                ? new ReduceTask<>(node.left, depth - 1, supplier, accumulator, combiner).compute()
+                : supplier.get();
+            accumulator.accept(result, node.val);
+            return right != null ? combiner.apply(result, right.join()) : result;
+        }
+    }
+    
+    // ========== LAZY TRAVERSALS ==========
+    
+    /*
+     * Pull-based traversals: values are produced one at a time as the caller
+     * asks for them, so taking the first k values (the k smallest of a search
+     * tree, via inorder) costs only the work for those k. The iterators are
+     * views of the spliterators, and the streams wrap the spliterators, so
+     * stopping a stream early stops the walk too.
+     * 
+     * The depth-first spliterators keep a stack of pending work, each entry
+     * either a whole subtree or a single node's value, with the next one on
+     * top; it holds O(h) entries. trySplit hands the entries above the
+     * deepest pending subtree (the largest one left) to a new spliterator,
+     * which is a prefix of the remaining order, so ordered parallel streams
+     * produce the same sequence.
+     * 
+     * Level order is breadth-first, so it needs a queue as wide as the
+     * widest level rather than O(h) state. It splits by handing over the
+     * values of the queued nodes and keeping their children.
+     * 
+     * Like the other traversals these read the tree as they go; it must not
+     * be modified while an iterator or stream is in use.
+     */
+    public static PrimitiveIterator.OfInt inorderIterator(TreeNode root) {
+        return Spliterators.iterator(inorderSpliterator(root));
+    }
+    
+    public static PrimitiveIterator.OfInt preorderIterator(TreeNode root) {
+        return Spliterators.iterator(preorderSpliterator(root));
+    }
+    
+    public static PrimitiveIterator.OfInt postorderIterator(TreeNode root) {
+        return Spliterators.iterator(postorderSpliterator(root));
+    }
+    
+    public static PrimitiveIterator.OfInt levelOrderIterator(TreeNode root) {
+        return Spliterators.iterator(levelOrderSpliterator(root));
+    }
+    
+    public static Spliterator.OfInt inorderSpliterator(TreeNode root) {
+        return new TreeSpliterator(root, Order.INORDER);
+    }
+    
+    public static Spliterator.OfInt preorderSpliterator(TreeNode root) {
+        return new TreeSpliterator(root, Order.PREORDER);
+    }
+    
+    public static Spliterator.OfInt postorderSpliterator(TreeNode root) {
+        return new TreeSpliterator(root, Order.POSTORDER);
+    }
+    
+    public static Spliterator.OfInt levelOrderSpliterator(TreeNode root) {
+        return new LevelSpliterator(root);
+    }
+    
+    /**
+     * Sequential stream of the inorder values; call parallel() to split it
+     */
+    public static IntStream inorderStream(TreeNode root) {
+        return StreamSupport.intStream(inorderSpliterator(root), false);
+    }
+    
+    public static IntStream preorderStream(TreeNode root) {
+        return StreamSupport.intStream(preorderSpliterator(root), false);
+    }
+    
+    public static IntStream postorderStream(TreeNode root) {
+        return StreamSupport.intStream(postorderSpliterator(root), false);
+    }
+    
+    public static IntStream levelOrderStream(TreeNode root) {
+        return StreamSupport.intStream(levelOrderSpliterator(root), false);
+    }
+    
+    private static final class TreeSpliterator implements Spliterator.OfInt {
+        private static final int MAX_OPENED = 32;
+        
+        private final Order order;
+        // Pending work, next on top: whole[i] marks a subtree still to be
+        // expanded, otherwise only nodes[i].val is left
+        private TreeNode[] nodes;
+        private boolean[] whole;
+        private int depth;
+        private long estimate;
+        
+        TreeSpliterator(TreeNode root, Order order) {
+            this(order, new TreeNode[16], new boolean[16], 0, Long.MAX_VALUE);
+            if (root != null) {
+                push(root, true);
+            }
+        }
+        
+        private TreeSpliterator(Order order, TreeNode[] nodes, boolean[] whole, int depth, long estimate) {
+            this.order = order;
+            this.nodes = nodes;
+            this.whole = whole;
+            this.depth = depth;
+            this.estimate = estimate;
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            TreeNode node = next();
+            if (node == null) {
+                return false;
+            }
+            action.accept(node.val);
+            return true;
+        }
+        
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            for (TreeNode node = next(); node != null; node = next()) {
+                action.accept(node.val);
+            }
+        }
+        
+        @Override
+        public Spliterator.OfInt trySplit() {
+            for (int opened = 0; opened <= MAX_OPENED; opened++) {
+                int deepest = 0;
+                while (deepest < depth && !whole[deepest]) {
+                    deepest++;
+                }
+                if (deepest == depth) {
+                    return null; // Single values only
+                }
+                int above = deepest + 1;
+                while (above < depth && !whole[above]) {
+                    above++;
+                }
+                if (above == depth) {
+                    // Nothing but single values above the only subtree left:
+                    // open that subtree up in place and look again
+                    TreeNode subtree = nodes[deepest];
+                    TreeNode[] singles = Arrays.copyOfRange(nodes, deepest + 1, depth);
+                    Arrays.fill(nodes, deepest, depth, null);
+                    depth = deepest;
+                    expand(subtree);
+                    for (TreeNode single : singles) {
+                        push(single, false);
+                    }
+                    continue;
+                }
+                
+                int count = depth - deepest - 1;
+                int capacity = Math.max(16, count * 2);
+                estimate >>>= 1;
+                TreeSpliterator prefix = new TreeSpliterator(order,
+                    Arrays.copyOf(Arrays.copyOfRange(nodes, deepest + 1, depth), capacity),
+                    Arrays.copyOf(Arrays.copyOfRange(whole, deepest + 1, depth), capacity), count, estimate);
+                Arrays.fill(nodes, deepest + 1, depth, null);
+                depth = deepest + 1;
+                return prefix;
+            }
+            return null; // A long chain of single children: not worth splitting
+        }
+        
+        @Override
+        public long estimateSize() {
+            return depth == 0 ? 0 : estimate;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+        
+        // Expands subtrees on top until a single value is next; null when done
+        private TreeNode next() {
+            while (depth > 0) {
+                boolean isWhole = whole[depth - 1];
+                TreeNode node = pop();
+                if (!isWhole) {
+                    return node;
+                }
+                if (order == Order.PREORDER) {
+                    // The node itself comes first: no need to push it
+                    if (node.right != null) push(node.right, true);
+                    if (node.left != null) push(node.left, true);
+                    return node;
+                }
+                expand(node);
+            }
+            return null;
+        }
+        
+        // Replaces a subtree by its parts, pushed in reverse order
+        private void expand(TreeNode node) {
+            switch (order) {
+                case INORDER:
+                    if (node.right != null) push(node.right, true);
+                    push(node, false);
+                    if (node.left != null) push(node.left, true);
+                    break;
+                case PREORDER:
+                    if (node.right != null) push(node.right, true);
+                    if (node.left != null) push(node.left, true);
+                    push(node, false);
+                    break;
+                default:
+                    push(node, false);
+                    if (node.right != null) push(node.right, true);
+                    if (node.left != null) push(node.left, true);
+                    break;
+            }
+        }
+        
+        private void push(TreeNode node, boolean isWhole) {
+            if (depth == nodes.length) {
+                nodes = Arrays.copyOf(nodes, depth * 2);
+                whole = Arrays.copyOf(whole, depth * 2);
+            }
+            nodes[depth] = node;
+            whole[depth++] = isWhole;
+        }
+        
+        private TreeNode pop() {
+            TreeNode node = nodes[--depth];
+            nodes[depth] = null;
+            return node;
+        }
+    }
+    
+    private static final class LevelSpliterator implements Spliterator.OfInt {
+        private final ArrayDeque<TreeNode> queue = new ArrayDeque<>();
+        
+        LevelSpliterator(TreeNode root) {
+            if (root != null) {
+                queue.offer(root);
+            }
+        }
+        
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            TreeNode node = queue.poll();
+            if (node == null) {
+                return false;
+            }
+            if (node.left != null) queue.offer(node.left);
+            if (node.right != null) queue.offer(node.right);
+            action.accept(node.val);
+            return true;
+        }
+        
+        /**
+         * The queued nodes come next, then everything below them in
+         * breadth-first order: split off their values and keep the children
+         */
+        @Override
+        public Spliterator.OfInt trySplit() {
+            int count = queue.size();
+            if (count == 0) {
+                return null;
+            }
+            int[] values = new int[count];
+            for (int i = 0; i < count; i++) {
+                TreeNode node = queue.poll();
+                values[i] = node.val;
+                if (node.left != null) queue.offer(node.left);
+                if (node.right != null) queue.offer(node.right);
+            }
+            return Spliterators.spliterator(values, ORDERED | NONNULL);
+        }
+        
+        @Override
+        public long estimateSize() {
+            return queue.isEmpty() ? 0 : Long.MAX_VALUE;
+        }
+        
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+    }
+    
+    // ========== HELPER METHODS ==========
+    
+    // Create a sample binary tree
+    public static TreeNode createSampleTree() {
+        //       1
+        //      / \
+        //     2   3
+        //    / \
+        //   4   5
+        TreeNode root = new TreeNode(1);
+        root.left = new TreeNode(2);
+        root.right = new TreeNode(3);
+        root.left.left = new TreeNode(4);
+        root.left.right = new TreeNode(5);
+        return root;
+    }
+    
+    // Balanced search tree over from..to-1, so its inorder is from, from + 1, ...
+    private static TreeNode balancedTree(int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new TreeNode(mid, balancedTree(from, mid), balancedTree(mid + 1, to));
+    }
+    
+    // Print list
+    public static void printList(List<Integer> list, String traversal) {
+        System.out.print(traversal + ": ");
+        System.out.print("[");
+        for (int i = 0; i < list.size(); i++) {
+            System.out.print(list.get(i));
+            if (i < list.size() - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+    }
+    
+    // Print level order result
+    public static void printLevelOrder(List<List<Integer>> result) {
+        System.out.print("Level Order: ");
+        System.out.print("[");
+        for (int i = 0; i < result.size(); i++) {
+            System.out.print("[");
+            List<Integer> level = result.get(i);
+            for (int j = 0; j < level.size(); j++) {
+                System.out.print(level.get(j));
+                if (j < level.size() - 1) System.out.print(", ");
+            }
+            System.out.print("]");
+            if (i < result.size() - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        TreeNode root = createSampleTree();
+        
+        System.out.println("Binary Tree Traversal Results:");
+        System.out.println("Tree structure:");
+        System.out.println("       1");
+        System.out.println("      / \\");
+        System.out.println("     2   3");
+        System.out.println("    / \\");
+        System.out.println("   4   5");
+        System.out.println();
+        
+        // Test all traversals
+        printList(inorderTraversalRecursive(root), "Inorder (Recursive)");
+        printList(inorderTraversalIterative(root), "Inorder (Iterative)");
+        printList(preorderTraversalRecursive(root), "Preorder (Recursive)");
+        printList(preorderTraversalIterative(root), "Preorder (Iterative)");
+        printList(postorderTraversalRecursive(root), "Postorder (Recursive)");
+        printList(postorderTraversalIterative(root), "Postorder (Iterative)");
+        printLevelOrder(levelOrderTraversal(root));
+        
+        Traverser traverser = new Traverser();
+        int[] out = new int[5];
+        traverser.postorder(root, out);
+        System.out.println("Postorder (Traverser, int[]): " + Arrays.toString(out));
+        System.out.print("Inorder (Traverser, visitor): ");
+        traverser.inorder(root, value -> System.out.print(value + " "));
+        System.out.println();
+        
+        // Performance: a deep, unbalanced tree (a zig-zag path)
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 1_000_000;
+        TreeNode deep = null;
+        for (int i = 0; i < n; i++) {
+            TreeNode node = new TreeNode(i);
+            if (i % 2 == 0) node.left = deep; else node.right = deep;
+            deep = node;
+        }
+        int[] buffer = new int[n];
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            List<Integer> boxed = postorderTraversalIterative(deep);
+            long boxedTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            int count = traverser.postorder(deep, buffer);
+            long primitiveTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long[] sum = {0};
+            traverser.postorder(deep, value -> sum[0] += value);
+            long visitorTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ", postorder of a " + n + "-node path: List<Integer> "
+                + boxedTime + "ms, int[] " + primitiveTime + "ms, visitor " + visitorTime + "ms, same: "
+                + (boxed.size() == count && boxed.get(0) == buffer[0] && boxed.get(n - 1) == buffer[n - 1]));
+        }
+        
+        // Morris: no stack at all, so depth does not matter
+        System.out.println("\n=== Morris Traversals (O(1) space) ===");
+        try {
+            postorderTraversalRecursive(deep);
+            System.out.println("Recursive postorder of the path finished");
+        } catch (StackOverflowError e) {
+            System.out.println("Recursive postorder of the path: StackOverflowError");
+        }
+        
+        for (int round = 0; round < 3; round++) {
+            long[] sum = {0};
+            long startTime = System.currentTimeMillis();
+            traverser.postorder(deep, value -> sum[0] += value);
+            long traverserTime = System.currentTimeMillis() - startTime;
+            long traverserSum = sum[0];
+            
+            sum[0] = 0;
+            startTime = System.currentTimeMillis();
+            morrisPostorder(deep, value -> sum[0] += value);
+            long morrisTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ", postorder of the path: Traverser " + traverserTime
+                + "ms, Morris " + morrisTime + "ms, same: " + (traverserSum == sum[0]));
+        }
+        
+        System.out.print("Morris inorder/preorder/postorder of the sample: ");
+        morrisInorder(root, value -> System.out.print(value + " "));
+        System.out.print("/ ");
+        morrisPreorder(root, value -> System.out.print(value + " "));
+        System.out.print("/ ");
+        morrisPostorder(root, value -> System.out.print(value + " "));
+        System.out.println();
+        
+        // Fork/Join: a large balanced tree
+        System.out.println("\n=== Parallel Traversals (" + ForkJoinPool.commonPool().getParallelism()
+            + " workers) ===");
+        int big = 4_000_000;
+        TreeNode balanced = balancedTree(0, big);
+        int[] sequential = new int[big];
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            traverser.inorder(balanced, sequential);
+            long sequentialTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            int[] parallel = inorderParallel(balanced);
+            long parallelTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long[] sum = {0};
+            traverser.preorder(balanced, value -> sum[0] += value);
+            long sequentialSumTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long[] parallelSum = reduceParallel(balanced, () -> new long[1], (a, value) -> a[0] += value,
+                (a, b) -> { a[0] += b[0]; return a; });
+            long parallelSumTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ", " + big + " nodes: inorder sequential " + sequentialTime
+                + "ms, parallel " + parallelTime + "ms (same: " + Arrays.equals(sequential, parallel)
+                + "); sum sequential " + sequentialSumTime + "ms, parallel " + parallelSumTime + "ms (same: "
+                + (sum[0] == parallelSum[0]) + ")");
+        }
+        
+        // Lazy: the 10 smallest values need only the first 10 inorder steps
+        System.out.println("\n=== Lazy Traversals ===");
+        System.out.println("Level order of the sample, streamed: " + Arrays.toString(levelOrderStream(root).toArray()));
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.nanoTime();
+            List<Integer> smallestEager = inorderTraversalIterative(balanced).subList(0, 10);
+            long eagerTime = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            int[] smallest = new int[10];
+            PrimitiveIterator.OfInt iterator = inorderIterator(balanced);
+            for (int i = 0; i < smallest.length; i++) {
+                smallest[i] = iterator.nextInt();
+            }
+            long lazyTime = System.nanoTime() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long streamSum = inorderStream(balanced).parallel().asLongStream().sum();
+            long streamTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ", 10 smallest of " + big + ": full list "
+                + eagerTime / 1000 + "us, iterator " + lazyTime / 1000 + "us (same: "
+                + smallestEager.equals(Arrays.stream(smallest).boxed().collect(Collectors.toList()))
+                + "); parallel stream sum " + streamTime + "ms (same: " + (streamSum == (long) big * (big - 1) / 2) + ")");
+        }
+    }
+}
+
+
+
@@ -0,0 +1,351 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Binary Tree as a Struct of Arrays
+ *
+ * Stores a binary tree in three parallel int arrays instead of one
+ * TreeNode object per node: val[i], and left[i] / right[i] holding child
+ * indices (NONE for a missing child). Nodes are numbered in breadth-first
+ * order, so the root is 0, every level is a contiguous index range and
+ * the level order traversal is simply val itself.
+ *
+ * A TreeNode is a 24-byte object (with compressed references) whose two
+ * references the GC has to trace; here a node costs 12 bytes in three
+ * arrays the GC never looks inside, and traversals walk indices into
+ * arrays that stay in cache instead of chasing pointers across the heap.
+ *
+ * The four traversals of BinaryTreeTraversal write into a primitive
+ * int[]; the iterative ones use an int[] stack sized to the tree height.
+ *
+ * Time Complexity: O(n) for conversion and every traversal
+ * Space Complexity: 12 bytes per node, O(h) extra per traversal
+ */
+public class FlatBinaryTree {
+
+    public static final int NONE = -1;
+
+    private final int[] val;
+    private final int[] left;
+    private final int[] right;
+    private final int[] levelStarts;
+
+    private FlatBinaryTree(int[] val, int[] left, int[] right, int[] levelStarts) {
+        this.val = val;
+        this.left = left;
+        this.right = right;
+        this.levelStarts = levelStarts;
+    }
+
+    /**
+     * Copies a TreeNode tree, numbering nodes breadth-first
+     */
+    public static FlatBinaryTree fromTreeNode(TreeNode root) {
+        if (root == null) {
+            return new FlatBinaryTree(new int[0], new int[0], new int[0], new int[]{0});
+        }
+
+        // The queue doubles as the index: a node's position in it is its number
+        TreeNode[] queue = new TreeNode[16];
+        int[] left = new int[16];
+        int[] right = new int[16];
+        int[] levelStarts = new int[8];
+        int levels = 0;
+        queue[0] = root;
+        int size = 1;
+        int levelEnd = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (i == levelEnd) {
+                if (levels + 1 == levelStarts.length) {
+                    levelStarts = Arrays.copyOf(levelStarts, levels * 2);
+                }
+                levelStarts[levels++] = i;
+                levelEnd = size;
+            }
+            if (size + 2 > queue.length) {
+                queue = Arrays.copyOf(queue, queue.length * 2);
+                left = Arrays.copyOf(left, queue.length);
+                right = Arrays.copyOf(right, queue.length);
+            }
+            TreeNode node = queue[i];
+            left[i] = node.left == null ? NONE : size;
+            if (node.left != null) queue[size++] = node.left;
+            right[i] = node.right == null ? NONE : size;
+            if (node.right != null) queue[size++] = node.right;
+        }
+        levelStarts[levels] = size;
+
+        int[] val = new int[size];
+        for (int i = 0; i < size; i++) {
+            val[i] = queue[i].val;
+        }
+        return new FlatBinaryTree(val, Arrays.copyOf(left, size), Arrays.copyOf(right, size),
+            Arrays.copyOf(levelStarts, levels + 1));
+    }
+
+    /**
+     * Builds the equivalent TreeNode tree
+     */
+    public TreeNode toTreeNode() {
+        int n = val.length;
+        if (n == 0) {
+            return null;
+        }
+        TreeNode[] nodes = new TreeNode[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = new TreeNode(val[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            if (left[i] != NONE) nodes[i].left = nodes[left[i]];
+            if (right[i] != NONE) nodes[i].right = nodes[right[i]];
+        }
+        return nodes[0];
+    }
+
+    public int size() {
+        return val.length;
+    }
+
+    public int height() {
+        return levelStarts.length - 1;
+    }
+
+    public int value(int node) {
+        return val[node];
+    }
+
+    public int left(int node) {
+        return left[node];
+    }
+
+    public int right(int node) {
+        return right[node];
+    }
+
+    // ========== TRAVERSALS ==========
+
+    public int[] inorder() {
+        int[] out = new int[size()];
+        inorder(out);
+        return out;
+    }
+
+    /**
+     * Writes the inorder traversal into out[0..size)
+     */
+    public void inorder(int[] out) {
+        if (size() == 0) return;
+        int[] stack = new int[height()];
+        int depth = 0;
+        int written = 0;
+        int current = 0;
+
+        while (current != NONE || depth > 0) {
+            // Reach the leftmost node
+            while (current != NONE) {
+                stack[depth++] = current;
+                current = left[current];
+            }
+            current = stack[--depth];
+            out[written++] = val[current];
+            current = right[current];
+        }
+    }
+
+    public int[] preorder() {
+        int[] out = new int[size()];
+        preorder(out);
+        return out;
+    }
+
+    public void preorder(int[] out) {
+        if (size() == 0) return;
+        // Only a right child is ever parked, at most one per level
+        int[] stack = new int[height()];
+        int depth = 0;
+        int written = 0;
+        int current = 0;
+
+        while (true) {
+            out[written++] = val[current];
+            if (right[current] != NONE) {
+                stack[depth++] = right[current];
+            }
+            if (left[current] != NONE) {
+                current = left[current];
+            } else if (depth > 0) {
+                current = stack[--depth];
+            } else {
+                return;
+            }
+        }
+    }
+
+    public int[] postorder() {
+        int[] out = new int[size()];
+        postorder(out);
+        return out;
+    }
+
+    /**
+     * Postorder is the reverse of the root-right-left preorder, so that
+     * preorder is written from the end of out backwards
+     */
+    public void postorder(int[] out) {
+        if (size() == 0) return;
+        int[] stack = new int[height()];
+        int depth = 0;
+        int written = size();
+        int current = 0;
+
+        while (true) {
+            out[--written] = val[current];
+            if (left[current] != NONE) {
+                stack[depth++] = left[current];
+            }
+            if (right[current] != NONE) {
+                current = right[current];
+            } else if (depth > 0) {
+                current = stack[--depth];
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Nodes are numbered breadth-first, so this is a copy of val
+     */
+    public int[] levelOrder() {
+        return val.clone();
+    }
+
+    /**
+     * Level l occupies levelOrder()[levelStarts()[l] .. levelStarts()[l + 1])
+     */
+    public int[] levelStarts() {
+        return levelStarts.clone();
+    }
+
+    // ========== HELPER METHODS ==========
+
+    // Random binary search tree: nodes are allocated in insertion order, not
+    // in traversal order, as in a tree built up over time
+    static TreeNode randomSearchTree(int n, Random random) {
+        TreeNode root = null;
+        for (int i = 0; i < n; i++) {
+            int value = random.nextInt();
+            if (root == null) {
+                root = new TreeNode(value);
+                continue;
+            }
+            TreeNode node = root;
+            while (true) {
+                if (value < node.val) {
+                    if (node.left == null) {
+                        node.left = new TreeNode(value);
+                        break;
+                    }
+                    node = node.left;
+                } else {
+                    if (node.right == null) {
+                        node.right = new TreeNode(value);
+                        break;
+                    }
+                    node = node.right;
+                }
+            }
+        }
+        return root;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static boolean same(List<Integer> expected, int[] actual) {
+        if (expected.size() != actual.length) return false;
+        for (int i = 0; i < actual.length; i++) {
+            if (expected.get(i) != actual[i]) return false;
+        }
+        return true;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        FlatBinaryTree sample = fromTreeNode(BinaryTreeTraversal.createSampleTree());
+        System.out.println("Inorder: " + Arrays.toString(sample.inorder()));
+        System.out.println("Preorder: " + Arrays.toString(sample.preorder()));
+        System.out.println("Postorder: " + Arrays.toString(sample.postorder()));
+        System.out.println("Level Order: " + Arrays.toString(sample.levelOrder()) + ", level starts "
+            + Arrays.toString(sample.levelStarts()));
+        System.out.print("Round trip through TreeNode, inorder: ");
+        BinaryTreeTraversal.printList(BinaryTreeTraversal.inorderTraversalIterative(sample.toTreeNode()), "");
+
+        // Heap footprint and throughput on a random search tree
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 2_000_000;
+
+        long before = usedHeap();
+        TreeNode root = randomSearchTree(n, new Random(42));
+        long objectBytes = usedHeap() - before;
+
+        before = usedHeap();
+        FlatBinaryTree flat = fromTreeNode(root);
+        long flatBytes = usedHeap() - before;
+        System.out.println(n + " nodes, height " + flat.height() + ": TreeNode objects " + objectBytes / (1 << 20)
+            + " MB, flat arrays " + flatBytes / (1 << 20) + " MB");
+
+        int[] out = new int[n];
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            List<Integer> inorderList = BinaryTreeTraversal.inorderTraversalIterative(root);
+            long objectInorder = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            flat.inorder(out);
+            long flatInorder = System.currentTimeMillis() - startTime;
+            boolean inorderSame = same(inorderList, out);
+
+            startTime = System.currentTimeMillis();
+            List<Integer> preorderList = BinaryTreeTraversal.preorderTraversalIterative(root);
+            long objectPreorder = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            flat.preorder(out);
+            long flatPreorder = System.currentTimeMillis() - startTime;
+            boolean preorderSame = same(preorderList, out);
+
+            startTime = System.currentTimeMillis();
+            List<Integer> postorderList = BinaryTreeTraversal.postorderTraversalRecursive(root);
+            long objectPostorder = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            flat.postorder(out);
+            long flatPostorder = System.currentTimeMillis() - startTime;
+            boolean postorderSame = same(postorderList, out);
+
+            startTime = System.currentTimeMillis();
+            int levels = BinaryTreeTraversal.levelOrderTraversal(root).size();
+            long objectLevel = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            int[] level = flat.levelOrder();
+            long flatLevel = System.currentTimeMillis() - startTime;
+
+            System.out.println("Round " + (round + 1) + " (TreeNode vs flat): inorder " + objectInorder + "/"
+                + flatInorder + "ms, preorder " + objectPreorder + "/" + flatPreorder + "ms, postorder "
+                + objectPostorder + "/" + flatPostorder + "ms, level order " + objectLevel + "/" + flatLevel
+                + "ms, identical: " + (inorderSame && preorderSame && postorderSame
+                && levels == flat.height() && level.length == n));
+        }
+    }
+}
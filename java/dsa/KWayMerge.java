@@ -0,0 +1,394 @@
+package dsa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * K-Way Merge of Sorted Runs (External Merge)
+ *
+ * Generalizes MergeSortedArray from two in-memory arrays to K sorted
+ * sources of any size. A loser tree selects the smallest head among K
+ * runs with ceil(log2 K) comparisons per output element. File runs are
+ * read with large sequential NIO reads and the output goes through one
+ * large buffered writer. Files hold little-endian ints, the same format
+ * as MappedIntArray.
+ *
+ * Duplicate elimination applies the RemoveDuplicates rule inline: a value
+ * is written only if it differs from the last value written.
+ *
+ * Time Complexity: O(N log K) for N total elements
+ * Space Complexity: O(K * bufferBytes), independent of N
+ */
+public class KWayMerge {
+
+    static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    // Largest array most JVMs will allocate
+    static final int MAX_ARRAY_LENGTH = Integer.MAX_VALUE - 8;
+
+    /**
+     * A sorted source of ints
+     */
+    abstract static class IntRun {
+        abstract boolean hasNext() throws IOException;
+        abstract int next() throws IOException;
+    }
+
+    /**
+     * A destination for merged ints
+     */
+    interface IntSink {
+        void write(int value) throws IOException;
+    }
+
+    /**
+     * Merges sorted run files into output and returns the number of ints written
+     */
+    public static long mergeFiles(List<Path> runs, Path output, boolean removeDuplicates) throws IOException {
+        return mergeFiles(runs, output, removeDuplicates, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * bufferBytes is the size of each run's and the output's buffer and must
+     * hold at least one int
+     */
+    public static long mergeFiles(List<Path> runs, Path output, boolean removeDuplicates,
+                                  int bufferBytes) throws IOException {
+        checkBufferBytes(bufferBytes);
+        FileRun[] sources = new FileRun[runs.size()];
+        try (FileSink sink = new FileSink(output, bufferBytes)) {
+            for (int i = 0; i < sources.length; i++) {
+                sources[i] = new FileRun(runs.get(i), bufferBytes);
+            }
+            return merge(sources, sink, removeDuplicates);
+        } finally {
+            for (FileRun source : sources) {
+                if (source != null) {
+                    source.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Merges sorted in-memory arrays. Two runs without duplicate
+     * elimination go straight to MergeSortedArray's two-pointer merge.
+     * Throws IllegalArgumentException if the runs hold more ints than
+     * one array can; use mergeFiles for those.
+     */
+    public static int[] mergeArrays(int[][] runs, boolean removeDuplicates) {
+        long total = 0;
+        for (int[] run : runs) {
+            total += run.length;
+        }
+        if (total > MAX_ARRAY_LENGTH) {
+            throw new IllegalArgumentException("Too many ints for one array: " + total);
+        }
+
+        if (runs.length == 2 && !removeDuplicates) {
+            return MergeSortedArray.mergeWithExtraArray(runs[0], runs[0].length, runs[1], runs[1].length);
+        }
+
+        IntRun[] sources = new IntRun[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            sources[i] = new ArrayRun(runs[i]);
+        }
+
+        int[] result = new int[(int) total];
+        int[] written = {0};
+        try {
+            merge(sources, value -> result[written[0]++] = value, removeDuplicates);
+        } catch (IOException e) {
+            throw new AssertionError("In-memory runs do not perform I/O", e);
+        }
+        return written[0] == total ? result : Arrays.copyOf(result, written[0]);
+    }
+
+    /**
+     * Core loop: pop the loser tree winner, write it, refill from its run
+     */
+    static long merge(IntRun[] runs, IntSink sink, boolean removeDuplicates) throws IOException {
+        if (runs.length == 0) {
+            return 0;
+        }
+
+        LoserTree tree = new LoserTree(runs);
+        long written = 0;
+        int last = 0;
+
+        while (!tree.isEmpty()) {
+            int value = tree.pollWinner();
+            if (!removeDuplicates || written == 0 || value != last) {
+                sink.write(value);
+                last = value;
+                written++;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Tournament tree of losers over K runs.
+     *
+     * Run s is leaf s + K; internal node t stores the run that lost the match
+     * played there, and node 0 stores the overall winner. After a run's head
+     * changes only the matches on its leaf-to-root path are replayed.
+     * Heads are kept as longs so an exhausted run can sort after every int.
+     */
+    static final class LoserTree {
+        private static final long EXHAUSTED = Long.MAX_VALUE;
+
+        private final IntRun[] runs;
+        private final long[] heads;
+        private final int[] tree;
+        private final int k;
+
+        LoserTree(IntRun[] runs) throws IOException {
+            this.runs = runs;
+            this.k = runs.length;
+            this.heads = new long[k + 1];
+            this.tree = new int[k];
+
+            for (int s = 0; s < k; s++) {
+                heads[s] = runs[s].hasNext() ? runs[s].next() : EXHAUSTED;
+            }
+
+            // Virtual run k beats everything; each replay pushes one copy of it out
+            heads[k] = Long.MIN_VALUE;
+            Arrays.fill(tree, k);
+            for (int s = k - 1; s >= 0; s--) {
+                replay(s);
+            }
+        }
+
+        boolean isEmpty() {
+            return heads[tree[0]] == EXHAUSTED;
+        }
+
+        int pollWinner() throws IOException {
+            int winner = tree[0];
+            int value = (int) heads[winner];
+            IntRun run = runs[winner];
+            heads[winner] = run.hasNext() ? run.next() : EXHAUSTED;
+            replay(winner);
+            return value;
+        }
+
+        private void replay(int s) {
+            long[] h = heads;
+            for (int t = (s + k) >>> 1; t > 0; t >>>= 1) {
+                int opponent = tree[t];
+                if (h[opponent] < h[s] || (h[opponent] == h[s] && opponent < s)) {
+                    tree[t] = s;
+                    s = opponent;
+                }
+            }
+            tree[0] = s;
+        }
+    }
+
+    static final class ArrayRun extends IntRun {
+        private final int[] values;
+        private int position;
+
+        ArrayRun(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        boolean hasNext() {
+            return position < values.length;
+        }
+
+        @Override
+        int next() {
+            return values[position++];
+        }
+    }
+
+    /**
+     * Reads a run file through one large direct buffer
+     */
+    static final class FileRun extends IntRun implements AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private boolean endOfFile;
+
+        FileRun(Path file, int bufferBytes) throws IOException {
+            checkBufferBytes(bufferBytes);
+            channel = FileChannel.open(file, StandardOpenOption.READ);
+            buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.flip(); // Start empty
+        }
+
+        @Override
+        boolean hasNext() throws IOException {
+            if (buffer.remaining() >= Integer.BYTES) {
+                return true;
+            }
+            if (endOfFile) {
+                return false;
+            }
+            buffer.compact();
+            while (buffer.position() < Integer.BYTES || buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    endOfFile = true;
+                    break;
+                }
+            }
+            buffer.flip();
+            return buffer.remaining() >= Integer.BYTES;
+        }
+
+        @Override
+        int next() {
+            return buffer.getInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the merged output through one large direct buffer
+     */
+    static final class FileSink implements IntSink, AutoCloseable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+
+        FileSink(Path file, int bufferBytes) throws IOException {
+            checkBufferBytes(bufferBytes);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+            buffer = ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        @Override
+        public void write(int value) throws IOException {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+            channel.close();
+        }
+    }
+
+    // A buffer smaller than one int could never be refilled to a whole value
+    private static void checkBufferBytes(int bufferBytes) {
+        if (bufferBytes < Integer.BYTES) {
+            throw new IllegalArgumentException("Buffer must hold at least one int: " + bufferBytes);
+        }
+    }
+
+    // Helper method to print array
+    public static void printArray(int[] arr) {
+        System.out.print("[");
+        for (int i = 0; i < arr.length; i++) {
+            System.out.print(arr[i]);
+            if (i < arr.length - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+    }
+
+    // Helper method to write a sorted run file
+    private static void writeRun(Path file, int[] values) throws IOException {
+        try (FileSink sink = new FileSink(file, DEFAULT_BUFFER_BYTES)) {
+            for (int value : values) {
+                sink.write(value);
+            }
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        int[][] runs = {
+            {1, 4, 7, 10},
+            {2, 4, 8},
+            {},
+            {0, 3, 4, 9, 11},
+            {5}
+        };
+
+        System.out.print("K-way merge: ");
+        printArray(mergeArrays(runs, false));
+        System.out.print("K-way merge without duplicates: ");
+        printArray(mergeArrays(runs, true));
+
+        // External merge of run files
+        System.out.println("\n=== External Merge ===");
+        Path dir = Files.createTempDirectory("kway-merge");
+        try {
+            Random random = new Random(42);
+            int runCount = 64;
+            int runLength = 250_000;
+            List<Path> files = new ArrayList<>();
+
+            for (int r = 0; r < runCount; r++) {
+                int[] run = new int[runLength];
+                for (int i = 0; i < runLength; i++) {
+                    run[i] = random.nextInt(1_000_000);
+                }
+                Arrays.sort(run);
+                Path file = dir.resolve("run-" + r + ".bin");
+                writeRun(file, run);
+                files.add(file);
+            }
+
+            Path output = dir.resolve("merged.bin");
+            long startTime = System.currentTimeMillis();
+            long written = mergeFiles(files, output, false);
+            long endTime = System.currentTimeMillis();
+            long megabytes = written * Integer.BYTES / (1 << 20);
+            System.out.println("Merged " + runCount + " runs, " + written + " ints (" + megabytes
+                + " MB) in " + (endTime - startTime) + "ms");
+
+            startTime = System.currentTimeMillis();
+            long unique = mergeFiles(files, dir.resolve("unique.bin"), true);
+            endTime = System.currentTimeMillis();
+            System.out.println("Merged without duplicates: " + unique + " ints in " + (endTime - startTime) + "ms");
+
+            try (MappedIntArray merged = MappedIntArray.open(output, false)) {
+                boolean sorted = true;
+                for (long i = 1; i < merged.length(); i++) {
+                    if (merged.get(i - 1) > merged.get(i)) {
+                        sorted = false;
+                        break;
+                    }
+                }
+                System.out.println("Output sorted: " + sorted);
+            }
+        } finally {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+}
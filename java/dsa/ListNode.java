@@ -0,0 +1,12 @@
+package dsa;
+
+/**
+ * Singly linked list node
+ */
+class ListNode {
+    int val;
+    ListNode next;
+    ListNode() {}
+    ListNode(int val) { this.val = val; }
+    ListNode(int val, ListNode next) { this.val = val; this.next = next; }
+}
@@ -0,0 +1,171 @@
+package dsa;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Off-heap int array backed by a memory-mapped file
+ *
+ * A file of little-endian 32-bit ints is mapped in chunks of 2^28 ints
+ * (1 GiB), since a single MappedByteBuffer is limited to 2 GiB, and
+ * exposed with long indices. Reads and writes go straight to the page
+ * cache: nothing is copied onto the heap, so the file size is not limited
+ * by -Xmx.
+ *
+ * MergeSortedArray, RotateArray and RemoveDuplicates have overloads that
+ * run directly on a MappedIntArray.
+ */
+public class MappedIntArray implements AutoCloseable {
+
+    private static final int CHUNK_SHIFT = 28;
+    static final long CHUNK_INTS = 1L << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = (int) (CHUNK_INTS - 1);
+
+    private final FileChannel channel;
+    private final MappedByteBuffer[] mappings;
+    private final IntBuffer[] chunks;
+    private final long length;
+
+    private MappedIntArray(FileChannel channel, FileChannel.MapMode mode, long length) throws IOException {
+        this.channel = channel;
+        this.length = length;
+
+        int chunkCount = (int) ((length + CHUNK_INTS - 1) >>> CHUNK_SHIFT);
+        this.mappings = new MappedByteBuffer[chunkCount];
+        this.chunks = new IntBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++) {
+            long first = (long) c << CHUNK_SHIFT;
+            long ints = Math.min(CHUNK_INTS, length - first);
+            mappings[c] = channel.map(mode, first * Integer.BYTES, ints * Integer.BYTES);
+            mappings[c].order(ByteOrder.LITTLE_ENDIAN);
+            chunks[c] = mappings[c].asIntBuffer();
+        }
+    }
+
+    /**
+     * Maps an existing file of ints. A trailing partial int is ignored.
+     */
+    public static MappedIntArray open(Path file, boolean writable) throws IOException {
+        FileChannel channel = writable
+            ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+            : FileChannel.open(file, StandardOpenOption.READ);
+        FileChannel.MapMode mode = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        return new MappedIntArray(channel, mode, channel.size() / Integer.BYTES);
+    }
+
+    /**
+     * Creates (or truncates) a file holding length ints and maps it for writing.
+     */
+    public static MappedIntArray create(Path file, long length) throws IOException {
+        if (length < 0) {
+            throw new IllegalArgumentException("Length must not be negative: " + length);
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new MappedIntArray(channel, FileChannel.MapMode.READ_WRITE, length);
+    }
+
+    public long length() {
+        return length;
+    }
+
+    public int get(long index) {
+        return chunks[(int) (index >>> CHUNK_SHIFT)].get((int) index & CHUNK_MASK);
+    }
+
+    public void set(long index, int value) {
+        chunks[(int) (index >>> CHUNK_SHIFT)].put((int) index & CHUNK_MASK, value);
+    }
+
+    public void swap(long i, long j) {
+        int temp = get(i);
+        set(i, get(j));
+        set(j, temp);
+    }
+
+    /**
+     * Writes dirty pages back to the file.
+     */
+    public void force() {
+        for (MappedByteBuffer mapping : mappings) {
+            if (!mapping.isReadOnly()) {
+                mapping.force();
+            }
+        }
+    }
+
+    /**
+     * Flushes and closes the file. The mapping itself is released by the GC.
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    // Helper method to print the first length ints
+    public static void printArray(MappedIntArray arr, long length) {
+        System.out.print("[");
+        for (long i = 0; i < length; i++) {
+            System.out.print(arr.get(i));
+            if (i < length - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+    }
+
+    private static MappedIntArray createFrom(Path file, int[] values, long length) throws IOException {
+        MappedIntArray arr = create(file, length);
+        for (int i = 0; i < values.length; i++) {
+            arr.set(i, values[i]);
+        }
+        return arr;
+    }
+
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        Path dir = Files.createTempDirectory("mapped-ints");
+        try {
+            try (MappedIntArray nums1 = createFrom(dir.resolve("nums1.bin"), new int[]{1, 2, 3}, 6);
+                 MappedIntArray nums2 = createFrom(dir.resolve("nums2.bin"), new int[]{2, 5, 6}, 3);
+                 MappedIntArray out = create(dir.resolve("merged.bin"), 6)) {
+                MergeSortedArray.mergeInto(nums1, 3, nums2, 3, out);
+                System.out.print("Merge into new file: ");
+                printArray(out, out.length());
+
+                MergeSortedArray.merge(nums1, 3, nums2, 3);
+                System.out.print("Merge in place: ");
+                printArray(nums1, nums1.length());
+
+                long unique = RemoveDuplicates.removeDuplicates(nums1);
+                System.out.print("Remove duplicates: ");
+                printArray(nums1, unique);
+            }
+
+            try (MappedIntArray nums = createFrom(dir.resolve("rotate.bin"), new int[]{1, 2, 3, 4, 5, 6, 7}, 7)) {
+                RotateArray.rotateInPlace(nums, 3);
+                System.out.print("Rotate by 3: ");
+                printArray(nums, nums.length());
+            }
+
+            // Reopen read-only to show the results were written to the file
+            try (MappedIntArray merged = open(dir.resolve("merged.bin"), false)) {
+                System.out.print("Reopened merged file: ");
+                printArray(merged, merged.length());
+            }
+        } finally {
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(dir)) {
+                for (Path file : files) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+}
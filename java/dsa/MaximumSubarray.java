@@ -0,0 +1,633 @@
+package dsa;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+
+/**
+ * Maximum Subarray Problem Solution (Kadane's Algorithm)
+ * 
+ * Problem: Given an integer array nums, find the contiguous subarray 
+ * (containing at least one number) which has the largest sum and return its sum.
+ * 
+ * The Long variants accumulate in a long so large inputs cannot overflow,
+ * and maxSubArrayParallel splits the array into Segments that are merged
+ * associatively on Fork/Join workers or in a parallel stream.
+ * 
+ * Time Complexity: O(n)
+ * Space Complexity: O(1)
+ */
+public class MaximumSubarray {
+    
+    public static int maxSubArray(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return 0;
+        }
+        
+        int maxSoFar = nums[0];
+        int maxEndingHere = nums[0];
+        
+        for (int i = 1; i < nums.length; i++) {
+            // Either extend the previous subarray or start a new one
+            maxEndingHere = Math.max(nums[i], maxEndingHere + nums[i]);
+            maxSoFar = Math.max(maxSoFar, maxEndingHere);
+        }
+        
+        return maxSoFar;
+    }
+    
+    // Alternative implementation with more detailed tracking
+    public static int[] maxSubArrayWithIndices(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return new int[]{0, -1, -1}; // {sum, start, end}
+        }
+        
+        int maxSoFar = nums[0];
+        int maxEndingHere = nums[0];
+        int start = 0, end = 0;
+        int tempStart = 0;
+        
+        for (int i = 1; i < nums.length; i++) {
+            if (nums[i] > maxEndingHere + nums[i]) {
+                maxEndingHere = nums[i];
+                tempStart = i;
+            } else {
+                maxEndingHere = maxEndingHere + nums[i];
+            }
+            
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+        
+        return new int[]{maxSoFar, start, end};
+    }
+    
+    /**
+     * maxSubArray with a long accumulator: sums of up to 2^32 ints cannot overflow
+     */
+    public static long maxSubArrayLong(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return 0;
+        }
+        
+        long maxSoFar = nums[0];
+        long maxEndingHere = nums[0];
+        
+        for (int i = 1; i < nums.length; i++) {
+            maxEndingHere = Math.max(nums[i], maxEndingHere + nums[i]);
+            maxSoFar = Math.max(maxSoFar, maxEndingHere);
+        }
+        
+        return maxSoFar;
+    }
+    
+    /**
+     * maxSubArrayWithIndices with a long accumulator: {sum, start, end}
+     */
+    public static long[] maxSubArrayWithIndicesLong(int[] nums) {
+        if (nums == null || nums.length == 0) {
+            return new long[]{0, -1, -1};
+        }
+        
+        long maxSoFar = nums[0];
+        long maxEndingHere = nums[0];
+        int start = 0, end = 0;
+        int tempStart = 0;
+        
+        for (int i = 1; i < nums.length; i++) {
+            if (maxEndingHere < 0) {
+                maxEndingHere = nums[i];
+                tempStart = i;
+            } else {
+                maxEndingHere += nums[i];
+            }
+            
+            if (maxEndingHere > maxSoFar) {
+                maxSoFar = maxEndingHere;
+                start = tempStart;
+                end = i;
+            }
+        }
+        
+        return new long[]{maxSoFar, start, end};
+    }
+    
+    // ========== PARALLEL DIVIDE AND CONQUER ==========
+    
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    /**
+     * Parallel maxSubArrayWithIndicesLong (Fork/Join)
+     * 
+     * Each chunk is summarized as a Segment and neighbouring segments are
+     * merged associatively. Ties are broken exactly as in the sequential
+     * scan, so the indices are the same.
+     */
+    public static long[] maxSubArrayParallel(int[] nums) {
+        return maxSubArrayParallel(nums, ForkJoinPool.commonPool());
+    }
+    
+    public static long[] maxSubArrayParallel(int[] nums, ForkJoinPool pool) {
+        if (nums == null || nums.length < PARALLEL_THRESHOLD) {
+            return maxSubArrayWithIndicesLong(nums);
+        }
+        int grain = Math.max(PARALLEL_THRESHOLD / 4, nums.length / (pool.getParallelism() * 4));
+        return pool.invoke(new SegmentTask(nums, 0, nums.length, grain)).toArray();
+    }
+    
+    /**
+     * Collects a (possibly parallel) ordered stream into a Segment:
+     * {@code stream.collect(MaximumSubarray.collector()).sum()}
+     */
+    public static Collector<Integer, Segment, Segment> collector() {
+        return Collector.of(Segment::new, (segment, x) -> segment.accept(x), Segment::combine);
+    }
+    
+    /**
+     * Same for IntStream, which has no Collector overload
+     */
+    public static Segment collect(IntStream stream) {
+        return stream.collect(Segment::new, Segment::accept, Segment::combine);
+    }
+    
+    /**
+     * Summary of a run of consecutive elements, enough to merge it with
+     * its neighbours:
+     * - total: sum of all elements
+     * - prefix: best sum of a run starting at the first element
+     * - suffix: best sum of a run ending at the last element
+     * - best: best sum of any run
+     * Indices are relative to the first element. Ties go to the earliest
+     * end and then the earliest start, as in maxSubArrayWithIndices.
+     * 
+     * Elements are appended with accept() (the suffix is Kadane's
+     * maxEndingHere) and a segment absorbs its right neighbour with
+     * combine().
+     */
+    public static final class Segment implements IntConsumer {
+        private long length;
+        private long total;
+        private long prefix, prefixEnd;
+        private long suffix, suffixStart;
+        private long best, bestStart = -1, bestEnd = -1;
+        
+        static Segment of(int[] nums, int from, int to) {
+            Segment segment = new Segment();
+            if (from == to) {
+                return segment;
+            }
+            
+            long total = nums[from];
+            long prefix = total, prefixEnd = 0;
+            long suffix = total, suffixStart = 0;
+            long best = total, bestStart = 0, bestEnd = 0;
+            
+            for (int i = from + 1; i < to; i++) {
+                int x = nums[i];
+                total += x;
+                if (total > prefix) {
+                    prefix = total;
+                    prefixEnd = i - from;
+                }
+                if (suffix < 0) {
+                    suffix = x;
+                    suffixStart = i - from;
+                } else {
+                    suffix += x;
+                }
+                if (suffix > best) {
+                    best = suffix;
+                    bestStart = suffixStart;
+                    bestEnd = i - from;
+                }
+            }
+            
+            segment.length = to - from;
+            segment.total = total;
+            segment.prefix = prefix;
+            segment.prefixEnd = prefixEnd;
+            segment.suffix = suffix;
+            segment.suffixStart = suffixStart;
+            segment.best = best;
+            segment.bestStart = bestStart;
+            segment.bestEnd = bestEnd;
+            return segment;
+        }
+        
+        @Override
+        public void accept(int x) {
+            if (length == 0) {
+                total = prefix = suffix = best = x;
+                prefixEnd = suffixStart = bestStart = bestEnd = 0;
+            } else {
+                total += x;
+                if (total > prefix) {
+                    prefix = total;
+                    prefixEnd = length;
+                }
+                if (suffix < 0) {
+                    suffix = x;
+                    suffixStart = length;
+                } else {
+                    suffix += x;
+                }
+                if (suffix > best) {
+                    best = suffix;
+                    bestStart = suffixStart;
+                    bestEnd = length;
+                }
+            }
+            length++;
+        }
+        
+        /**
+         * Appends the elements summarized by right and returns this
+         */
+        public Segment combine(Segment right) {
+            if (right.length == 0) {
+                return this;
+            }
+            if (length == 0) {
+                copyFrom(right);
+                return this;
+            }
+            
+            // Best run ending in right: inside right, or crossing the boundary
+            long rightBest = right.best;
+            long rightStart = length + right.bestStart;
+            long rightEnd = length + right.bestEnd;
+            long crossing = suffix + right.prefix;
+            long crossingEnd = length + right.prefixEnd;
+            if (crossing > rightBest || (crossing == rightBest && crossingEnd <= rightEnd)) {
+                rightBest = crossing;
+                rightStart = suffixStart;
+                rightEnd = crossingEnd;
+            }
+            if (rightBest > best) {
+                best = rightBest;
+                bestStart = rightStart;
+                bestEnd = rightEnd;
+            }
+            
+            if (total + right.prefix > prefix) {
+                prefix = total + right.prefix;
+                prefixEnd = length + right.prefixEnd;
+            }
+            if (suffix + right.total >= right.suffix) {
+                suffix += right.total;
+            } else {
+                suffix = right.suffix;
+                suffixStart = length + right.suffixStart;
+            }
+            
+            total += right.total;
+            length += right.length;
+            return this;
+        }
+        
+        /**
+         * Resets to the empty segment
+         */
+        public void clear() {
+            length = total = prefix = prefixEnd = suffix = suffixStart = best = 0;
+            bestStart = bestEnd = -1;
+        }
+        
+        private void copyFrom(Segment other) {
+            length = other.length;
+            total = other.total;
+            prefix = other.prefix;
+            prefixEnd = other.prefixEnd;
+            suffix = other.suffix;
+            suffixStart = other.suffixStart;
+            best = other.best;
+            bestStart = other.bestStart;
+            bestEnd = other.bestEnd;
+        }
+        
+        /** Largest subarray sum, 0 if empty */
+        public long sum() {
+            return best;
+        }
+        
+        /** First index of the largest subarray, -1 if empty */
+        public long start() {
+            return bestStart;
+        }
+        
+        /** Last index of the largest subarray, -1 if empty */
+        public long end() {
+            return bestEnd;
+        }
+        
+        public long length() {
+            return length;
+        }
+        
+        public long total() {
+            return total;
+        }
+        
+        long[] toArray() {
+            return new long[]{best, bestStart, bestEnd};
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class SegmentTask extends RecursiveTask<Segment> {
+        private final int[] nums;
+        private final int from, to, grain;
+        
+        SegmentTask(int[] nums, int from, int to, int grain) {
+            this.nums = nums;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected Segment compute() {
+            if (to - from <= grain) {
+                return Segment.of(nums, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SegmentTask right = new SegmentTask(nums, mid, to, grain);
+            right.fork();
+            Segment left = new SegmentTask(nums, from, mid, grain).compute();
+            return left.combine(right.join());
+        }
+    }
+    
+    // ========== STREAMING ==========
+    
+    /**
+     * Online maximum subarray over a stream of values
+     * 
+     * Unbounded: a single Segment absorbs each value in O(1), so after
+     * every offer() the best subarray so far is known.
+     * 
+     * Window: the best subarray lying entirely within the last windowSize
+     * values. This is the MinMaxQueue technique with Segment as the
+     * aggregate: a queue of two stacks where each entry holds the Segment of
+     * itself and everything below it. Input entries append (accept), output
+     * entries prepend (a single value combined with the entry below), and
+     * the window's Segment is the output top combined with the input top.
+     * Each value is moved once, so updates are O(1) amortized. All Segments
+     * are preallocated and reused, so offer() does not allocate.
+     * 
+     * Indices are stream positions (0 = first value ever offered).
+     */
+    public static final class StreamingMaxSubarray {
+        private static final int UNBOUNDED = 0;
+        
+        private final int windowSize;
+        private final Segment current = new Segment();
+        private long count;
+        
+        // Window mode only
+        private final int[] inValues;
+        private final Segment[] in;
+        private final Segment[] out;
+        private int inSize, outSize;
+        private boolean stale;
+        
+        public StreamingMaxSubarray() {
+            this.windowSize = UNBOUNDED;
+            this.inValues = null;
+            this.in = null;
+            this.out = null;
+        }
+        
+        public StreamingMaxSubarray(int windowSize) {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+            }
+            this.windowSize = windowSize;
+            this.inValues = new int[windowSize];
+            this.in = new Segment[windowSize];
+            this.out = new Segment[windowSize];
+            for (int i = 0; i < windowSize; i++) {
+                in[i] = new Segment();
+                out[i] = new Segment();
+            }
+        }
+        
+        public void offer(int value) {
+            count++;
+            if (windowSize == UNBOUNDED) {
+                current.accept(value);
+                return;
+            }
+            
+            if (inSize + outSize == windowSize) {
+                if (outSize == 0) {
+                    transfer();
+                }
+                outSize--;
+            }
+            Segment entry = in[inSize];
+            if (inSize == 0) {
+                entry.clear();
+            } else {
+                entry.copyFrom(in[inSize - 1]);
+            }
+            entry.accept(value);
+            inValues[inSize++] = value;
+            stale = true;
+        }
+        
+        /**
+         * Offers every value in order. A window only keeps the last
+         * windowSize values, so the rest are counted but skipped.
+         */
+        public void offerAll(int[] values) {
+            int from = 0;
+            if (windowSize != UNBOUNDED && values.length >= windowSize) {
+                inSize = 0;
+                outSize = 0;
+                from = values.length - windowSize;
+                count += from;
+            }
+            for (int i = from; i < values.length; i++) {
+                offer(values[i]);
+            }
+        }
+        
+        /** Largest subarray sum, 0 before the first value */
+        public long sum() {
+            return result().sum();
+        }
+        
+        /** Stream position of the first value of the best subarray, -1 before the first value */
+        public long start() {
+            Segment result = result();
+            return result.length() == 0 ? -1 : firstPosition() + result.start();
+        }
+        
+        /** Stream position of the last value of the best subarray, -1 before the first value */
+        public long end() {
+            Segment result = result();
+            return result.length() == 0 ? -1 : firstPosition() + result.end();
+        }
+        
+        /** Values offered so far */
+        public long count() {
+            return count;
+        }
+        
+        /** Values currently considered */
+        public long size() {
+            return windowSize == UNBOUNDED ? count : inSize + outSize;
+        }
+        
+        private long firstPosition() {
+            return count - size();
+        }
+        
+        private Segment result() {
+            if (stale) {
+                current.clear();
+                if (outSize > 0) {
+                    current.copyFrom(out[outSize - 1]);
+                }
+                if (inSize > 0) {
+                    current.combine(in[inSize - 1]);
+                }
+                stale = false;
+            }
+            return current;
+        }
+        
+        // Move the input stack onto the output stack, newest first
+        private void transfer() {
+            for (int i = inSize - 1; i >= 0; i--) {
+                Segment entry = out[outSize];
+                entry.clear();
+                entry.accept(inValues[i]);
+                if (outSize > 0) {
+                    entry.combine(out[outSize - 1]);
+                }
+                outSize++;
+            }
+            inSize = 0;
+        }
+    }
+    
+    // Helper method to print array
+    public static void printArray(int[] arr) {
+        System.out.print("[");
+        for (int i = 0; i < arr.length; i++) {
+            System.out.print(arr[i]);
+            if (i < arr.length - 1) System.out.print(",");
+        }
+        System.out.print("]");
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        // Test cases
+        int[][] testCases = {
+            {-2, 1, -3, 4, -1, 2, 1, -5, 4},  // Expected: 6
+            {1},                               // Expected: 1
+            {5, 4, -1, 7, 8},                 // Expected: 23
+            {-1, -2, -3, -4},                 // Expected: -1
+            {1, 2, 3, 4, 5},                  // Expected: 15
+            {-2, -3, 4, -1, -2, 1, 5, -3}    // Expected: 7
+        };
+        
+        for (int i = 0; i < testCases.length; i++) {
+            int[] nums = testCases[i];
+            int result = maxSubArray(nums);
+            int[] resultWithIndices = maxSubArrayWithIndices(nums);
+            
+            System.out.println("Test " + (i + 1) + ":");
+            System.out.print("Array: ");
+            printArray(nums);
+            System.out.println();
+            System.out.println("Maximum subarray sum: " + result);
+            System.out.println("Maximum subarray: [" + resultWithIndices[1] + ", " + resultWithIndices[2] + "]");
+            System.out.println("Sum: " + resultWithIndices[0]);
+            System.out.println();
+        }
+        
+        // int accumulation overflows; long does not
+        int[] large = {Integer.MAX_VALUE, Integer.MAX_VALUE, -1, Integer.MAX_VALUE};
+        System.out.println("Large values: int " + maxSubArray(large) + ", long " + maxSubArrayLong(large));
+        
+        // Parallel stream with the segment collector
+        Segment streamed = IntStream.of(testCases[0]).boxed().parallel().collect(collector());
+        System.out.println("Parallel stream collector on test 1: sum " + streamed.sum() + " at ["
+            + streamed.start() + ", " + streamed.end() + "]");
+        
+        // Performance: sequential vs fork/join
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 50_000_000;
+        int[] big = new int[n];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            big[i] = random.nextInt(2001) - 1000;
+        }
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            int[] sequential = maxSubArrayWithIndices(big);
+            long sequentialTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long[] withLong = maxSubArrayWithIndicesLong(big);
+            long longTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            long[] parallel = maxSubArrayParallel(big);
+            long parallelTime = System.currentTimeMillis() - startTime;
+            
+            boolean same = withLong[0] == sequential[0] && withLong[1] == sequential[1] && withLong[2] == sequential[2]
+                && java.util.Arrays.equals(withLong, parallel);
+            System.out.println("Round " + (round + 1) + ": int " + sequentialTime + "ms, long " + longTime
+                + "ms, parallel " + parallelTime + "ms on " + ForkJoinPool.commonPool().getParallelism()
+                + " workers, same result: " + same);
+        }
+        
+        // Streaming: answer after every tick
+        System.out.println("\n=== Streaming (window of 4) ===");
+        StreamingMaxSubarray allTime = new StreamingMaxSubarray();
+        StreamingMaxSubarray recent = new StreamingMaxSubarray(4);
+        for (int tick : testCases[0]) {
+            allTime.offer(tick);
+            recent.offer(tick);
+            System.out.println("tick " + tick + " -> all time " + allTime.sum() + " [" + allTime.start() + ", "
+                + allTime.end() + "], last 4 " + recent.sum() + " [" + recent.start() + ", " + recent.end() + "]");
+        }
+        
+        int window = 1_000;
+        int ticks = 5_000_000;
+        StreamingMaxSubarray streaming = new StreamingMaxSubarray(window);
+        long checksum = 0;
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < ticks; i++) {
+            streaming.offer(big[i]);
+            checksum += streaming.sum() + streaming.end();
+        }
+        long streamingTime = System.currentTimeMillis() - startTime;
+        
+        long naiveChecksum = 0;
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < ticks / 100; i++) {
+            int from = Math.max(0, i - window + 1);
+            int[] result = maxSubArrayWithIndices(java.util.Arrays.copyOfRange(big, from, i + 1));
+            naiveChecksum += result[0] + from + result[2];
+        }
+        long naiveTime = System.currentTimeMillis() - startTime;
+        System.out.println("Window " + window + " over " + ticks + " ticks: streaming " + streamingTime
+            + "ms (checksum " + checksum + "), rescanning the window, first " + ticks / 100 + " ticks only: "
+            + naiveTime + "ms (checksum " + naiveChecksum + ")");
+    }
+}
+
+
+
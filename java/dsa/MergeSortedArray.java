@@ -0,0 +1,503 @@
+package dsa;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Merge Sorted Array Problem Solution
+ * 
+ * Problem: You are given two integer arrays nums1 and nums2, sorted in non-decreasing order, 
+ * and two integers m and n, representing the number of elements in nums1 and nums2 respectively. 
+ * Merge nums1 and nums2 into a single array sorted in non-decreasing order.
+ * 
+ * Time Complexity: O(m + n)
+ * Space Complexity: O(1) - merging in-place
+ */
+public class MergeSortedArray {
+    
+    /**
+     * Method 1: Merge from end (In-place, Space O(1))
+     */
+    public static void merge(int[] nums1, int m, int[] nums2, int n) {
+        int p1 = m - 1;  // Pointer for nums1
+        int p2 = n - 1;  // Pointer for nums2
+        int p = m + n - 1;  // Pointer for merged array
+        
+        // Compare elements from the end and place larger one at the end
+        while (p1 >= 0 && p2 >= 0) {
+            if (nums1[p1] > nums2[p2]) {
+                nums1[p] = nums1[p1];
+                p1--;
+            } else {
+                nums1[p] = nums2[p2];
+                p2--;
+            }
+            p--;
+        }
+        
+        // If there are remaining elements in nums2, copy them
+        while (p2 >= 0) {
+            nums1[p] = nums2[p2];
+            p2--;
+            p--;
+        }
+        // Note: We don't need to copy remaining elements from nums1
+        // because they are already in their correct positions
+    }
+    
+    /**
+     * Method 2: Using extra array (Space O(m + n))
+     */
+    public static int[] mergeWithExtraArray(int[] nums1, int m, int[] nums2, int n) {
+        int[] result = new int[m + n];
+        int p1 = 0, p2 = 0, p = 0;
+        
+        // Merge while both arrays have elements
+        while (p1 < m && p2 < n) {
+            if (nums1[p1] <= nums2[p2]) {
+                result[p] = nums1[p1];
+                p1++;
+            } else {
+                result[p] = nums2[p2];
+                p2++;
+            }
+            p++;
+        }
+        
+        // Copy remaining elements from nums1
+        while (p1 < m) {
+            result[p] = nums1[p1];
+            p1++;
+            p++;
+        }
+        
+        // Copy remaining elements from nums2
+        while (p2 < n) {
+            result[p] = nums2[p2];
+            p2++;
+            p++;
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Method 2 in parallel: merge path partitioning (Fork/Join)
+     * 
+     * The output is cut into equal chunks. For each chunk boundary k a
+     * binary search finds the co-rank i: how many of the first k outputs
+     * come from nums1. Every chunk then merges its own slices of nums1 and
+     * nums2 into a disjoint range of the result, so workers never share
+     * writes. Ties go to nums1, exactly as in the sequential merge.
+     */
+    public static int[] mergeParallel(int[] nums1, int m, int[] nums2, int n) {
+        return mergeParallel(nums1, m, nums2, n, ForkJoinPool.commonPool());
+    }
+    
+    public static int[] mergeParallel(int[] nums1, int m, int[] nums2, int n, ForkJoinPool pool) {
+        int total = m + n;
+        if (total < PARALLEL_THRESHOLD) {
+            return mergeWithExtraArray(nums1, m, nums2, n);
+        }
+        int[] result = new int[total];
+        int grain = Math.max(PARALLEL_THRESHOLD / 4, total / (pool.getParallelism() * 4));
+        pool.invoke(new MergePathTask(nums1, m, nums2, n, result, 0, total, grain));
+        return result;
+    }
+    
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    /**
+     * Number of elements taken from a (length m) among the first k outputs
+     * of merging a and b (length n), with ties resolved in favour of a
+     */
+    static int coRank(int k, int[] a, int m, int[] b, int n) {
+        int lo = Math.max(0, k - n);
+        int hi = Math.min(k, m);
+        
+        while (true) {
+            int i = (lo + hi) >>> 1;
+            int j = k - i;
+            if (i > 0 && j < n && a[i - 1] > b[j]) {
+                hi = i - 1; // Took too many from a
+            } else if (j > 0 && i < m && b[j - 1] >= a[i]) {
+                lo = i + 1; // Took too few from a
+            } else {
+                return i;
+            }
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class MergePathTask extends RecursiveAction {
+        private final int[] a, b, out;
+        private final int m, n;
+        private final int from, to, grain;
+        
+        MergePathTask(int[] a, int m, int[] b, int n, int[] out, int from, int to, int grain) {
+            this.a = a;
+            this.m = m;
+            this.b = b;
+            this.n = n;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > grain) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new MergePathTask(a, m, b, n, out, from, mid, grain),
+                          new MergePathTask(a, m, b, n, out, mid, to, grain));
+                return;
+            }
+            
+            int[] a = this.a, b = this.b, out = this.out; // Keep the hot loop on locals
+            int p1 = coRank(from, a, m, b, n);
+            int p2 = from - p1;
+            int end1 = coRank(to, a, m, b, n);
+            int end2 = to - end1;
+            int p = from;
+            
+            while (p1 < end1 && p2 < end2) {
+                if (a[p1] <= b[p2]) {
+                    out[p++] = a[p1++];
+                } else {
+                    out[p++] = b[p2++];
+                }
+            }
+            System.arraycopy(a, p1, out, p, end1 - p1);
+            p += end1 - p1;
+            System.arraycopy(b, p2, out, p, end2 - p2);
+        }
+    }
+    
+    /**
+     * Method 3: Adaptive galloping merge with System.arraycopy (Java specific)
+     * 
+     * Merges from the end like Method 1, one element per comparison, while
+     * counting how many times in a row the same array supplied the next
+     * element. After minGallop consecutive wins it switches, as TimSort's
+     * merge does, to galloping: exponential search finds the whole run that
+     * belongs next and one arraycopy moves it. It keeps galloping while the
+     * runs found are at least MIN_GALLOP long and drops back otherwise;
+     * minGallop shrinks while galloping pays and grows when it does not.
+     * Merging a small nums2 into a large nums1 costs about O(n log(m/n))
+     * comparisons plus bulk copies. Interleaved inputs stay in the
+     * one-at-a-time loop, which does Method 1's work plus a win counter.
+     */
+    public static void mergeUsingArrayCopy(int[] nums1, int m, int[] nums2, int n) {
+        int p1 = m - 1;
+        int p2 = n - 1;
+        int p = m + n - 1;
+        int minGallop = MIN_GALLOP;
+        
+        outer:
+        while (p1 >= 0 && p2 >= 0) {
+            int wins1 = 0; // Consecutive elements taken from nums1
+            int wins2 = 0; // ... and from nums2
+            
+            // One at a time until one side keeps winning; ties go to nums1
+            // first, so nums2's element is placed (at the end) first
+            do {
+                if (nums1[p1] > nums2[p2]) {
+                    nums1[p--] = nums1[p1--];
+                    wins1++;
+                    wins2 = 0;
+                    if (p1 < 0) {
+                        break outer;
+                    }
+                } else {
+                    nums1[p--] = nums2[p2--];
+                    wins2++;
+                    wins1 = 0;
+                    if (p2 < 0) {
+                        break outer;
+                    }
+                }
+            } while ((wins1 | wins2) < minGallop);
+            
+            // Gallop while the runs stay long
+            do {
+                // Run of nums1 elements greater than nums2[p2] moves as one block
+                int start1 = gallopFromRight(nums1, 0, p1, nums2[p2], true);
+                wins1 = p1 - start1 + 1;
+                System.arraycopy(nums1, start1, nums1, p - wins1 + 1, wins1);
+                p -= wins1;
+                p1 = start1 - 1;
+                if (p1 < 0) {
+                    break outer;
+                }
+                nums1[p--] = nums2[p2--]; // Now nums1[p1] <= nums2[p2]
+                if (p2 < 0) {
+                    break outer;
+                }
+                
+                // Run of nums2 elements not smaller than nums1[p1]
+                int start2 = gallopFromRight(nums2, 0, p2, nums1[p1], false);
+                wins2 = p2 - start2 + 1;
+                System.arraycopy(nums2, start2, nums1, p - wins2 + 1, wins2);
+                p -= wins2;
+                p2 = start2 - 1;
+                if (p2 < 0) {
+                    break outer;
+                }
+                nums1[p--] = nums1[p1--]; // Now nums2[p2] < nums1[p1]
+                if (p1 < 0) {
+                    break outer;
+                }
+                minGallop = Math.max(1, minGallop - 1); // Galloping pays: enter it sooner
+            } while (wins1 >= MIN_GALLOP || wins2 >= MIN_GALLOP);
+            minGallop += 2; // Penalty for leaving gallop mode
+        }
+        
+        // Whatever is left of nums2 is smaller than everything placed so far
+        System.arraycopy(nums2, 0, nums1, 0, p2 + 1);
+    }
+    
+    // Consecutive wins that switch mergeUsingArrayCopy to galloping, as in TimSort
+    private static final int MIN_GALLOP = 7;
+    
+    /**
+     * Smallest index i in [lo, hi + 1] such that every a[i..hi] is greater
+     * than key (strict) or not smaller than key (!strict). Probes hi, hi - 1,
+     * hi - 3, hi - 7, ... and then binary-searches the last gap, so a run of
+     * length r costs O(log r) comparisons.
+     */
+    private static int gallopFromRight(int[] a, int lo, int hi, int key, boolean strict) {
+        int right = hi + 1; // Predicate holds on [right, hi]
+        int left = lo - 1;  // Predicate fails at left (or left is before the range)
+        int offset = 1;
+        
+        while (offset <= hi - lo + 1) {
+            int idx = hi + 1 - offset;
+            if (strict ? a[idx] <= key : a[idx] < key) {
+                left = idx;
+                break;
+            }
+            right = idx;
+            offset <<= 1;
+        }
+        
+        while (right - left > 1) {
+            int mid = (left + right) >>> 1;
+            if (strict ? a[mid] > key : a[mid] >= key) {
+                right = mid;
+            } else {
+                left = mid;
+            }
+        }
+        return right;
+    }
+    
+    /**
+     * Method 1 on a memory-mapped file (in place, no heap copy)
+     * nums1 must hold at least m + n ints.
+     */
+    public static void merge(MappedIntArray nums1, long m, MappedIntArray nums2, long n) {
+        long p1 = m - 1;
+        long p2 = n - 1;
+        long p = m + n - 1;
+        
+        while (p1 >= 0 && p2 >= 0) {
+            int a = nums1.get(p1);
+            int b = nums2.get(p2);
+            if (a > b) {
+                nums1.set(p, a);
+                p1--;
+            } else {
+                nums1.set(p, b);
+                p2--;
+            }
+            p--;
+        }
+        
+        while (p2 >= 0) {
+            nums1.set(p, nums2.get(p2));
+            p2--;
+            p--;
+        }
+    }
+    
+    /**
+     * Method 2 on memory-mapped files: merge into a separate mapped output
+     * out must hold at least m + n ints.
+     */
+    public static void mergeInto(MappedIntArray nums1, long m, MappedIntArray nums2, long n, MappedIntArray out) {
+        long p1 = 0, p2 = 0, p = 0;
+        
+        while (p1 < m && p2 < n) {
+            int a = nums1.get(p1);
+            int b = nums2.get(p2);
+            if (a <= b) {
+                out.set(p, a);
+                p1++;
+            } else {
+                out.set(p, b);
+                p2++;
+            }
+            p++;
+        }
+        
+        while (p1 < m) {
+            out.set(p++, nums1.get(p1++));
+        }
+        
+        while (p2 < n) {
+            out.set(p++, nums2.get(p2++));
+        }
+    }
+    
+    // Helper method to print array
+    public static void printArray(int[] arr, int length) {
+        System.out.print("[");
+        for (int i = 0; i < length; i++) {
+            System.out.print(arr[i]);
+            if (i < length - 1) System.out.print(", ");
+        }
+        System.out.println("]");
+    }
+    
+    // Helper method to create test array with proper size
+    public static int[] createTestArray(int[] original, int size) {
+        int[] result = new int[size];
+        for (int i = 0; i < original.length && i < size; i++) {
+            result[i] = original[i];
+        }
+        return result;
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        // Test cases
+        int[][] testCases = {
+            {1, 2, 3, 0, 0, 0},  // nums1 with extra space
+            {2, 5, 6},           // nums2
+            {1, 0},              // nums1 with extra space
+            {},                  // nums2 (empty)
+            {1, 2, 3, 4, 5, 0, 0, 0, 0, 0},  // nums1 with extra space
+            {6, 7, 8, 9, 10}    // nums2
+        };
+        
+        int[] mValues = {3, 1, 5};  // number of elements in nums1
+        int[] nValues = {3, 0, 5};  // number of elements in nums2
+        
+        for (int i = 0; i < mValues.length; i++) {
+            int m = mValues[i];
+            int n = nValues[i];
+            
+            System.out.println("Test " + (i + 1) + ":");
+            
+            // Prepare test arrays
+            int[] nums1 = createTestArray(testCases[i * 2], m + n);
+            int[] nums2 = testCases[i * 2 + 1];
+            
+            System.out.print("nums1: ");
+            printArray(nums1, m);
+            System.out.print("nums2: ");
+            printArray(nums2, n);
+            
+            // Test Method 1: In-place merge
+            int[] nums1Copy = nums1.clone();
+            merge(nums1Copy, m, nums2, n);
+            System.out.print("Method 1 (In-place): ");
+            printArray(nums1Copy, m + n);
+            
+            // Test Method 2: Extra array
+            int[] result = mergeWithExtraArray(nums1, m, nums2, n);
+            System.out.print("Method 2 (Extra Array): ");
+            printArray(result, m + n);
+            
+            // Test Method 3: Galloping arraycopy
+            int[] nums1Copy2 = nums1.clone();
+            mergeUsingArrayCopy(nums1Copy2, m, nums2, n);
+            System.out.print("Method 3 (Galloping ArrayCopy): ");
+            printArray(nums1Copy2, m + n);
+            
+            System.out.println();
+        }
+        
+        // Performance comparison
+        System.out.println("=== Performance Comparison ===");
+        int[] largeNums1 = new int[10000];
+        int[] largeNums2 = new int[5000];
+        
+        // Fill arrays with sorted data
+        for (int i = 0; i < 5000; i++) {
+            largeNums1[i] = i * 2;
+            largeNums2[i] = i * 2 + 1;
+        }
+        
+        long startTime = System.currentTimeMillis();
+        merge(largeNums1.clone(), 5000, largeNums2, 5000);
+        long endTime = System.currentTimeMillis();
+        System.out.println("In-place merge time: " + (endTime - startTime) + "ms");
+        
+        startTime = System.currentTimeMillis();
+        mergeWithExtraArray(largeNums1, 5000, largeNums2, 5000);
+        endTime = System.currentTimeMillis();
+        System.out.println("Extra array merge time: " + (endTime - startTime) + "ms");
+        
+        startTime = System.currentTimeMillis();
+        mergeUsingArrayCopy(largeNums1.clone(), 5000, largeNums2, 5000);
+        endTime = System.currentTimeMillis();
+        System.out.println("Galloping ArrayCopy time: " + (endTime - startTime) + "ms");
+        
+        // Small delta into a large base: where galloping pays off
+        System.out.println("\n=== Small Into Large ===");
+        int base = 10_000_000;
+        int delta = 1_000;
+        int[] baseArray = new int[base + delta];
+        int[] deltaArray = new int[delta];
+        for (int i = 0; i < base; i++) {
+            baseArray[i] = i * 2;
+        }
+        for (int i = 0; i < delta; i++) {
+            deltaArray[i] = i * (2 * base / delta) + 1;
+        }
+        
+        for (int round = 0; round < 3; round++) {
+            int[] copy = baseArray.clone();
+            startTime = System.nanoTime();
+            merge(copy, base, deltaArray, delta);
+            long twoPointerTime = System.nanoTime() - startTime;
+            
+            int[] copy2 = baseArray.clone();
+            startTime = System.nanoTime();
+            mergeUsingArrayCopy(copy2, base, deltaArray, delta);
+            long gallopTime = System.nanoTime() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ": two-pointer " + (twoPointerTime / 1000) + "us, galloping "
+                + (gallopTime / 1000) + "us, identical: " + java.util.Arrays.equals(copy, copy2));
+        }
+        
+        // Parallel merge path vs sequential on larger inputs
+        System.out.println("\n=== Parallel Merge Path ===");
+        int half = 20_000_000;
+        int[] bigNums1 = new int[half];
+        int[] bigNums2 = new int[half];
+        for (int i = 0; i < half; i++) {
+            bigNums1[i] = i * 2;
+            bigNums2[i] = i * 3;
+        }
+        
+        for (int round = 0; round < 3; round++) {
+            startTime = System.currentTimeMillis();
+            int[] sequential = mergeWithExtraArray(bigNums1, half, bigNums2, half);
+            long sequentialTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            int[] parallel = mergeParallel(bigNums1, half, bigNums2, half);
+            long parallelTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ": sequential " + sequentialTime + "ms, parallel "
+                + parallelTime + "ms on " + ForkJoinPool.commonPool().getParallelism() + " workers, identical: "
+                + java.util.Arrays.equals(sequential, parallel));
+        }
+    }
+}
+
+
+
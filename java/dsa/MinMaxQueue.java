@@ -0,0 +1,301 @@
+package dsa;
+
+import java.util.Arrays;
+
+/**
+ * Sliding Window Min/Max Queue
+ *
+ * Combines the MinStack and QueueWithStacks techniques: a FIFO queue made
+ * of two stacks, where every stack entry also records the minimum and
+ * maximum of itself and everything below it. The queue's min (max) is the
+ * smaller (larger) of the two stack tops. When the output stack runs dry
+ * the input stack is moved over and the aggregates are recomputed on the
+ * way, so every element is moved once.
+ *
+ * Windows:
+ * - count window: offering into a full queue first evicts the oldest value
+ * - time window: values carry a timestamp and everything older than
+ *   (latest timestamp - duration) is evicted on offer or on expire(now)
+ *
+ * All state lives in preallocated int/long arrays, so a bounded window
+ * does not allocate after construction.
+ *
+ * Time Complexity: O(1) amortized for offer, poll, min and max
+ * Space Complexity: O(window)
+ */
+public class MinMaxQueue {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long NO_TIME_WINDOW = Long.MAX_VALUE;
+
+    // Input stack: newest on top
+    private int[] inValues, inMins, inMaxs;
+    private long[] inTimes;
+    private int inSize;
+
+    // Output stack: oldest on top
+    private int[] outValues, outMins, outMaxs;
+    private long[] outTimes;
+    private int outSize;
+
+    private final int maxSize;       // 0 means unbounded
+    private final long timeWindow;   // NO_TIME_WINDOW means none
+
+    /**
+     * Unbounded queue that grows as needed
+     */
+    public MinMaxQueue() {
+        this(0, NO_TIME_WINDOW);
+    }
+
+    private MinMaxQueue(int maxSize, long timeWindow) {
+        this.maxSize = maxSize;
+        this.timeWindow = timeWindow;
+        allocate(maxSize > 0 ? maxSize : DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Keeps the last windowSize values
+     */
+    public static MinMaxQueue countWindow(int windowSize) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+        }
+        return new MinMaxQueue(windowSize, NO_TIME_WINDOW);
+    }
+
+    /**
+     * Keeps values whose timestamp is within duration of the latest one.
+     * maxSize bounds memory (the oldest value is evicted when full); pass 0
+     * to let the queue grow.
+     */
+    public static MinMaxQueue timeWindow(long duration, int maxSize) {
+        if (duration < 0 || maxSize < 0) {
+            throw new IllegalArgumentException("Duration and size must not be negative");
+        }
+        return new MinMaxQueue(maxSize, duration);
+    }
+
+    /**
+     * Adds a value to a count-window or unbounded queue. A time window needs
+     * a timestamp for every value, so use offer(value, timestamp) there.
+     */
+    public void offer(int value) {
+        if (timeWindow != NO_TIME_WINDOW) {
+            throw new IllegalStateException("Time window queue needs a timestamp");
+        }
+        offer(value, 0);
+    }
+
+    /**
+     * Adds a value; timestamps must be non-decreasing
+     */
+    public void offer(int value, long timestamp) {
+        if (timeWindow != NO_TIME_WINDOW) {
+            expire(timestamp);
+        }
+        if (maxSize > 0 && size() == maxSize) {
+            poll();
+        }
+        if (inSize == inValues.length) {
+            grow();
+        }
+        pushIn(value, timestamp);
+    }
+
+    /**
+     * Adds every value in order. In a count window only the last
+     * windowSize values can survive, so the rest are skipped. Like
+     * offer(value), this is not available on a time window.
+     */
+    public void offerAll(int[] values) {
+        int from = 0;
+        if (maxSize > 0 && timeWindow == NO_TIME_WINDOW && values.length >= maxSize) {
+            clear();
+            from = values.length - maxSize;
+        }
+        for (int i = from; i < values.length; i++) {
+            offer(values[i]);
+        }
+    }
+
+    /**
+     * Evicts every value with now - timestamp >= duration. Does nothing on
+     * a queue without a time window.
+     */
+    public void expire(long now) {
+        if (timeWindow == NO_TIME_WINDOW) {
+            return;
+        }
+        while (!isEmpty() && isExpired(oldestTimestamp(), now)) {
+            poll();
+        }
+    }
+
+    /**
+     * Removes and returns the oldest value
+     */
+    public int poll() {
+        if (outSize == 0) {
+            transfer();
+        }
+        return outValues[--outSize];
+    }
+
+    public int peek() {
+        if (outSize == 0) {
+            transfer();
+        }
+        return outValues[outSize - 1];
+    }
+
+    public int min() {
+        checkNotEmpty();
+        if (inSize == 0) return outMins[outSize - 1];
+        if (outSize == 0) return inMins[inSize - 1];
+        return Math.min(inMins[inSize - 1], outMins[outSize - 1]);
+    }
+
+    public int max() {
+        checkNotEmpty();
+        if (inSize == 0) return outMaxs[outSize - 1];
+        if (outSize == 0) return inMaxs[inSize - 1];
+        return Math.max(inMaxs[inSize - 1], outMaxs[outSize - 1]);
+    }
+
+    public int size() {
+        return inSize + outSize;
+    }
+
+    public boolean isEmpty() {
+        return inSize == 0 && outSize == 0;
+    }
+
+    public void clear() {
+        inSize = 0;
+        outSize = 0;
+    }
+
+    // now - timestamp >= timeWindow without overflow: for timestamp <= now the
+    // exact difference lies in [0, 2^64) and fits an unsigned long
+    private boolean isExpired(long timestamp, long now) {
+        return timestamp <= now && Long.compareUnsigned(now - timestamp, timeWindow) >= 0;
+    }
+
+    private long oldestTimestamp() {
+        return outSize > 0 ? outTimes[outSize - 1] : inTimes[0];
+    }
+
+    private void pushIn(int value, long timestamp) {
+        int i = inSize++;
+        inValues[i] = value;
+        inTimes[i] = timestamp;
+        inMins[i] = i == 0 ? value : Math.min(value, inMins[i - 1]);
+        inMaxs[i] = i == 0 ? value : Math.max(value, inMaxs[i - 1]);
+    }
+
+    // Move the input stack onto the output stack, reversing the order
+    private void transfer() {
+        checkNotEmpty();
+        for (int i = inSize - 1; i >= 0; i--) {
+            int value = inValues[i];
+            int o = outSize++;
+            outValues[o] = value;
+            outTimes[o] = inTimes[i];
+            outMins[o] = o == 0 ? value : Math.min(value, outMins[o - 1]);
+            outMaxs[o] = o == 0 ? value : Math.max(value, outMaxs[o - 1]);
+        }
+        inSize = 0;
+    }
+
+    private void checkNotEmpty() {
+        if (isEmpty()) {
+            throw new IllegalStateException("Queue is empty");
+        }
+    }
+
+    private void allocate(int capacity) {
+        inValues = new int[capacity];
+        inMins = new int[capacity];
+        inMaxs = new int[capacity];
+        inTimes = new long[capacity];
+        outValues = new int[capacity];
+        outMins = new int[capacity];
+        outMaxs = new int[capacity];
+        outTimes = new long[capacity];
+    }
+
+    private void grow() {
+        int capacity = inValues.length * 2;
+        inValues = Arrays.copyOf(inValues, capacity);
+        inMins = Arrays.copyOf(inMins, capacity);
+        inMaxs = Arrays.copyOf(inMaxs, capacity);
+        inTimes = Arrays.copyOf(inTimes, capacity);
+        outValues = Arrays.copyOf(outValues, capacity);
+        outMins = Arrays.copyOf(outMins, capacity);
+        outMaxs = Arrays.copyOf(outMaxs, capacity);
+        outTimes = Arrays.copyOf(outTimes, capacity);
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        int[] stream = {4, 2, 12, 3, 8, 1, 7, 9, 5, 6};
+        int window = 3;
+
+        System.out.println("=== Count Window (last " + window + " values) ===");
+        MinMaxQueue queue = countWindow(window);
+        for (int value : stream) {
+            queue.offer(value);
+            System.out.println("offer " + value + " -> min " + queue.min() + ", max " + queue.max()
+                + ", size " + queue.size());
+        }
+
+        System.out.println("\n=== Time Window (last 10 time units) ===");
+        MinMaxQueue timed = timeWindow(10, 0);
+        long[] times = {0, 3, 5, 9, 12, 14, 20, 21, 30, 31};
+        for (int i = 0; i < stream.length; i++) {
+            timed.offer(stream[i], times[i]);
+            System.out.println("t=" + times[i] + " offer " + stream[i] + " -> min " + timed.min()
+                + ", max " + timed.max() + ", size " + timed.size());
+        }
+
+        System.out.println("\n=== Bulk Offer ===");
+        MinMaxQueue bulk = countWindow(4);
+        bulk.offerAll(stream);
+        System.out.println("Last 4 of stream -> min " + bulk.min() + ", max " + bulk.max());
+
+        // Performance: sliding min/max over a long stream vs rescanning the window
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 2_000_000;
+        int w = 1_000;
+        int[] data = new int[n];
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < n; i++) {
+            data[i] = random.nextInt();
+        }
+
+        MinMaxQueue sliding = countWindow(w);
+        long checksum = 0;
+        long startTime = System.currentTimeMillis();
+        for (int value : data) {
+            sliding.offer(value);
+            checksum += sliding.min() ^ sliding.max();
+        }
+        long endTime = System.currentTimeMillis();
+        System.out.println("Two-stack min/max queue: " + (endTime - startTime) + "ms (checksum " + checksum + ")");
+
+        long naiveChecksum = 0;
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < n / 10; i++) {
+            int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+            for (int j = Math.max(0, i - w + 1); j <= i; j++) {
+                min = Math.min(min, data[j]);
+                max = Math.max(max, data[j]);
+            }
+            naiveChecksum += min ^ max;
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println("Rescanning the window, first " + (n / 10) + " values only: "
+            + (endTime - startTime) + "ms (checksum " + naiveChecksum + ")");
+    }
+}
@@ -0,0 +1,517 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.Stack;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Min Stack Problem Solution
+ * 
+ * Problem: Design a stack that supports push, pop, top, and retrieving the minimum element 
+ * in constant time. Implement the MinStack class with the specified methods.
+ * 
+ * Time Complexity: O(1) for all operations
+ * Space Complexity: O(n)
+ */
+public class MinStack {
+    
+    private Stack<Integer> mainStack;
+    private Stack<Integer> minStack;
+    
+    public MinStack() {
+        mainStack = new Stack<>();
+        minStack = new Stack<>();
+    }
+    
+    /**
+     * Push element x onto stack
+     */
+    public void push(int x) {
+        mainStack.push(x);
+        
+        // Update min stack
+        if (minStack.isEmpty() || x <= minStack.peek()) {
+            minStack.push(x);
+        }
+    }
+    
+    /**
+     * Removes the element on top of the stack
+     */
+    public void pop() {
+        if (!mainStack.isEmpty()) {
+            int popped = mainStack.pop();
+            
+            // Update min stack if the popped element was the minimum
+            if (popped == minStack.peek()) {
+                minStack.pop();
+            }
+        }
+    }
+    
+    /**
+     * Get the top element
+     */
+    public int top() {
+        if (!mainStack.isEmpty()) {
+            return mainStack.peek();
+        }
+        throw new IllegalStateException("Stack is empty");
+    }
+    
+    /**
+     * Retrieve the minimum element in the stack
+     */
+    public int getMin() {
+        if (!minStack.isEmpty()) {
+            return minStack.peek();
+        }
+        throw new IllegalStateException("Stack is empty");
+    }
+    
+    /**
+     * Check if stack is empty
+     */
+    public boolean isEmpty() {
+        return mainStack.isEmpty();
+    }
+    
+    /**
+     * Get stack size
+     */
+    public int size() {
+        return mainStack.size();
+    }
+    
+    /**
+     * Display current state of both stacks
+     */
+    public void displayStacks() {
+        System.out.println("Main Stack: " + mainStack);
+        System.out.println("Min Stack: " + minStack);
+        if (!isEmpty()) {
+            System.out.println("Top element: " + top());
+            System.out.println("Minimum element: " + getMin());
+        }
+        System.out.println("Stack size: " + size());
+        System.out.println();
+    }
+    
+    // Alternative implementation using a single stack with pairs
+    public static class MinStackSingleStack {
+        private Stack<int[]> stack; // [value, minSoFar]
+        
+        public MinStackSingleStack() {
+            stack = new Stack<>();
+        }
+        
+        public void push(int x) {
+            if (stack.isEmpty()) {
+                stack.push(new int[]{x, x});
+            } else {
+                int minSoFar = Math.min(x, stack.peek()[1]);
+                stack.push(new int[]{x, minSoFar});
+            }
+        }
+        
+        public void pop() {
+            if (!stack.isEmpty()) {
+                stack.pop();
+            }
+        }
+        
+        public int top() {
+            if (!stack.isEmpty()) {
+                return stack.peek()[0];
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public int getMin() {
+            if (!stack.isEmpty()) {
+                return stack.peek()[1];
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public boolean isEmpty() {
+            return stack.isEmpty();
+        }
+        
+        public int size() {
+            return stack.size();
+        }
+        
+        public void displayStack() {
+            System.out.println("Stack with pairs: " + stack);
+            if (!isEmpty()) {
+                System.out.println("Top element: " + top());
+                System.out.println("Minimum element: " + getMin());
+            }
+            System.out.println("Stack size: " + size());
+            System.out.println();
+        }
+    }
+    
+    // Primitive implementation: parallel int[] arrays, no boxing and no locking
+    public static class MinStackPrimitive {
+        private static final int DEFAULT_CAPACITY = 16;
+        
+        private int[] values;   // values[i] = i-th pushed element
+        private int[] mins;     // mins[i] = minimum of values[0..i]
+        private int size;
+        
+        public MinStackPrimitive() {
+            this(DEFAULT_CAPACITY);
+        }
+        
+        public MinStackPrimitive(int initialCapacity) {
+            if (initialCapacity < 0) {
+                throw new IllegalArgumentException("Capacity must not be negative: " + initialCapacity);
+            }
+            values = new int[initialCapacity];
+            mins = new int[initialCapacity];
+        }
+        
+        public void push(int x) {
+            if (size == values.length) {
+                grow(size + 1);
+            }
+            values[size] = x;
+            mins[size] = size == 0 ? x : Math.min(x, mins[size - 1]);
+            size++;
+        }
+        
+        public void pop() {
+            if (size > 0) {
+                size--;
+            }
+        }
+        
+        public int top() {
+            if (size > 0) {
+                return values[size - 1];
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public int getMin() {
+            if (size > 0) {
+                return mins[size - 1];
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public boolean isEmpty() {
+            return size == 0;
+        }
+        
+        public int size() {
+            return size;
+        }
+        
+        /**
+         * Grows the backing arrays so that minCapacity pushes need no allocation
+         */
+        public void ensureCapacity(int minCapacity) {
+            if (minCapacity > values.length) {
+                grow(minCapacity);
+            }
+        }
+        
+        /**
+         * Shrinks the backing arrays to the current size
+         */
+        public void trimToSize() {
+            if (size < values.length) {
+                values = Arrays.copyOf(values, size);
+                mins = Arrays.copyOf(mins, size);
+            }
+        }
+        
+        private void grow(int minCapacity) {
+            int newCapacity = Math.max(minCapacity, values.length + (values.length >> 1) + 1);
+            values = Arrays.copyOf(values, newCapacity);
+            mins = Arrays.copyOf(mins, newCapacity);
+        }
+        
+        public void displayStack() {
+            System.out.print("Primitive stack [value/min]: [");
+            for (int i = 0; i < size; i++) {
+                System.out.print(values[i] + "/" + mins[i]);
+                if (i < size - 1) System.out.print(", ");
+            }
+            System.out.println("]");
+            if (!isEmpty()) {
+                System.out.println("Top element: " + top());
+                System.out.println("Minimum element: " + getMin());
+            }
+            System.out.println("Stack size: " + size());
+            System.out.println();
+        }
+    }
+    
+    /**
+     * Lock-free implementation for concurrent use (Treiber stack)
+     * 
+     * Every node is immutable and carries its value, the minimum of itself
+     * and everything below it, and the stack size at that depth. The head
+     * reference is the whole state, so push and pop take effect with one
+     * CAS and top, getMin and size are a single read of head.
+     * 
+     * When a CAS fails under contention the thread tries an elimination
+     * slot: a push parks its node in a random slot for a short spin, and a
+     * pop that finds a parked node takes it directly. Each such pair
+     * completes without touching head.
+     * 
+     * pop returns the removed value, since top() followed by pop() is not
+     * atomic with other threads around.
+     */
+    public static class LockFreeMinStack {
+        private static final int ELIMINATION_SPINS = 64;
+        
+        private static final class Node {
+            final int value;
+            final int min;
+            final int size;
+            final Node next;
+            
+            Node(int value, Node next) {
+                this.value = value;
+                this.next = next;
+                this.min = next == null ? value : Math.min(value, next.min);
+                this.size = next == null ? 1 : next.size + 1;
+            }
+        }
+        
+        private final AtomicReference<Node> head = new AtomicReference<>();
+        private final AtomicReferenceArray<Node> elimination;
+        
+        public LockFreeMinStack() {
+            this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        }
+        
+        public LockFreeMinStack(int eliminationSlots) {
+            elimination = new AtomicReferenceArray<>(Math.max(1, eliminationSlots));
+        }
+        
+        public void push(int x) {
+            while (true) {
+                Node h = head.get();
+                Node node = new Node(x, h);
+                if (head.compareAndSet(h, node)) {
+                    return;
+                }
+                if (eliminatePush(node)) {
+                    return;
+                }
+            }
+        }
+        
+        /**
+         * Removes and returns the top element
+         */
+        public int pop() {
+            while (true) {
+                Node h = head.get();
+                if (h == null) {
+                    throw new IllegalStateException("Stack is empty");
+                }
+                if (head.compareAndSet(h, h.next)) {
+                    return h.value;
+                }
+                Node taken = eliminatePop();
+                if (taken != null) {
+                    return taken.value;
+                }
+            }
+        }
+        
+        public int top() {
+            Node h = head.get();
+            if (h != null) {
+                return h.value;
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public int getMin() {
+            Node h = head.get();
+            if (h != null) {
+                return h.min;
+            }
+            throw new IllegalStateException("Stack is empty");
+        }
+        
+        public boolean isEmpty() {
+            return head.get() == null;
+        }
+        
+        public int size() {
+            Node h = head.get();
+            return h == null ? 0 : h.size;
+        }
+        
+        // Park the node in a slot and wait briefly for a pop to take it
+        private boolean eliminatePush(Node node) {
+            int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+            if (!elimination.compareAndSet(slot, null, node)) {
+                return false;
+            }
+            for (int i = 0; i < ELIMINATION_SPINS; i++) {
+                if (elimination.get(slot) != node) {
+                    return true; // A pop took it
+                }
+                Thread.onSpinWait();
+            }
+            // Withdraw; failing means a pop took it at the last moment
+            return !elimination.compareAndSet(slot, node, null);
+        }
+        
+        // Take a node parked by a concurrent push, if there is one
+        private Node eliminatePop() {
+            int slot = ThreadLocalRandom.current().nextInt(elimination.length());
+            for (int i = 0; i < ELIMINATION_SPINS; i++) {
+                Node node = elimination.get(slot);
+                if (node != null && elimination.compareAndSet(slot, node, null)) {
+                    return node;
+                }
+                Thread.onSpinWait();
+            }
+            return null;
+        }
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        System.out.println("=== Testing Two-Stack Implementation ===");
+        MinStack minStack = new MinStack();
+        
+        // Test operations
+        System.out.println("Pushing elements: -2, 0, -3");
+        minStack.push(-2);
+        minStack.displayStacks();
+        
+        minStack.push(0);
+        minStack.displayStacks();
+        
+        minStack.push(-3);
+        minStack.displayStacks();
+        
+        System.out.println("Getting minimum: " + minStack.getMin());
+        System.out.println("Getting top: " + minStack.top());
+        
+        System.out.println("Popping element");
+        minStack.pop();
+        minStack.displayStacks();
+        
+        System.out.println("Getting top: " + minStack.top());
+        System.out.println("Getting minimum: " + minStack.getMin());
+        
+        System.out.println("\n=== Testing Single-Stack Implementation ===");
+        MinStackSingleStack singleStack = new MinStackSingleStack();
+        
+        System.out.println("Pushing elements: -2, 0, -3");
+        singleStack.push(-2);
+        singleStack.displayStack();
+        
+        singleStack.push(0);
+        singleStack.displayStack();
+        
+        singleStack.push(-3);
+        singleStack.displayStack();
+        
+        System.out.println("Getting minimum: " + singleStack.getMin());
+        System.out.println("Getting top: " + singleStack.top());
+        
+        System.out.println("Popping element");
+        singleStack.pop();
+        singleStack.displayStack();
+        
+        System.out.println("Getting top: " + singleStack.top());
+        System.out.println("Getting minimum: " + singleStack.getMin());
+        
+        System.out.println("\n=== Testing Primitive Implementation ===");
+        MinStackPrimitive primitiveStack = new MinStackPrimitive();
+        
+        System.out.println("Pushing elements: -2, 0, -3");
+        primitiveStack.push(-2);
+        primitiveStack.push(0);
+        primitiveStack.push(-3);
+        primitiveStack.displayStack();
+        
+        System.out.println("Popping element");
+        primitiveStack.pop();
+        primitiveStack.displayStack();
+        
+        // Performance comparison
+        System.out.println("\n=== Performance Comparison ===");
+        MinStack twoStack = new MinStack();
+        MinStackSingleStack oneStack = new MinStackSingleStack();
+        MinStackPrimitive arrayStack = new MinStackPrimitive();
+        
+        int[] testData = {5, 3, 7, 1, 9, 2, 8, 4, 6, 0};
+        
+        // Test two-stack implementation
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < 100000; i++) {
+            for (int num : testData) {
+                twoStack.push(num);
+            }
+            for (int j = 0; j < testData.length; j++) {
+                twoStack.getMin();
+                twoStack.top();
+                twoStack.pop();
+            }
+        }
+        long endTime = System.currentTimeMillis();
+        System.out.println("Two-stack implementation time: " + (endTime - startTime) + "ms");
+        
+        // Test single-stack implementation
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < 100000; i++) {
+            for (int num : testData) {
+                oneStack.push(num);
+            }
+            for (int j = 0; j < testData.length; j++) {
+                oneStack.getMin();
+                oneStack.top();
+                oneStack.pop();
+            }
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println("Single-stack implementation time: " + (endTime - startTime) + "ms");
+        
+        // Test primitive implementation
+        startTime = System.currentTimeMillis();
+        for (int i = 0; i < 100000; i++) {
+            for (int num : testData) {
+                arrayStack.push(num);
+            }
+            for (int j = 0; j < testData.length; j++) {
+                arrayStack.getMin();
+                arrayStack.top();
+                arrayStack.pop();
+            }
+        }
+        endTime = System.currentTimeMillis();
+        System.out.println("Primitive implementation time: " + (endTime - startTime) + "ms");
+        
+        System.out.println("\n=== Testing Lock-Free Implementation ===");
+        LockFreeMinStack lockFreeStack = new LockFreeMinStack();
+        
+        System.out.println("Pushing elements: -2, 0, -3");
+        lockFreeStack.push(-2);
+        lockFreeStack.push(0);
+        lockFreeStack.push(-3);
+        System.out.println("Getting minimum: " + lockFreeStack.getMin());
+        System.out.println("Popping element: " + lockFreeStack.pop());
+        System.out.println("Getting top: " + lockFreeStack.top());
+        System.out.println("Getting minimum: " + lockFreeStack.getMin());
+    }
+}
+
+
+
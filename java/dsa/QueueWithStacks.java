@@ -0,0 +1,776 @@
+package dsa;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayDeque;
+import java.util.Stack;
+
+/**
+ * Implement Queue using Stacks Problem Solution
+ * 
+ * Problem: Implement a first in first out (FIFO) queue using only two stacks. 
+ * The implemented queue should support all the functions of a normal queue 
+ * (push, peek, pop, and empty).
+ * 
+ * Time Complexity: O(1) amortized for all operations
+ * Space Complexity: O(n)
+ */
+public class QueueWithStacks {
+    
+    // Elements moved per operation in incremental mode; 2 keeps the front ready (see step())
+    static final int TRANSFER_STEPS = 2;
+    
+    private Stack<Integer> inputStack;
+    private Stack<Integer> outputStack;
+    
+    // Incremental transfer mode only
+    private final boolean incremental;
+    private ArrayDeque<Stack<Integer>> readyStacks;  // Reversed segments queued behind outputStack
+    private ArrayDeque<Stack<Integer>> spareStacks;  // Emptied stacks kept for reuse
+    private Stack<Integer> transferSource;           // Frozen input being reversed, null when idle
+    private Stack<Integer> transferTarget;
+    private int readySize;                           // outputStack plus readyStacks
+    
+    // Elements moved from one stack to another so far, for checking the per-operation bound
+    long moves;
+    
+    public QueueWithStacks() {
+        this(false);
+    }
+    
+    /**
+     * With incrementalTransfer, no single operation moves more than a
+     * constant number of elements between stacks (see step()); otherwise
+     * the first peek/pop after a burst of pushes moves the whole input stack.
+     */
+    public QueueWithStacks(boolean incrementalTransfer) {
+        inputStack = new Stack<>();
+        outputStack = new Stack<>();
+        incremental = incrementalTransfer;
+        if (incremental) {
+            readyStacks = new ArrayDeque<>();
+            spareStacks = new ArrayDeque<>();
+        }
+    }
+    
+    /**
+     * Push element x to the back of queue.
+     */
+    public void push(int x) {
+        inputStack.push(x);
+        if (incremental) {
+            step();
+        }
+    }
+    
+    /**
+     * Removes the element from in front of queue and returns that element.
+     */
+    public int pop() {
+        peek(); // Ensure output stack has elements
+        int front = outputStack.pop();
+        if (incremental) {
+            readySize--;
+            if (outputStack.isEmpty() && !readyStacks.isEmpty()) {
+                spareStacks.push(outputStack);
+                outputStack = readyStacks.poll();
+            }
+            step();
+        }
+        return front;
+    }
+    
+    /**
+     * Get the front element.
+     */
+    public int peek() {
+        if (outputStack.isEmpty()) {
+            if (incremental) {
+                // Only reachable when the queue is empty or a one-element transfer is pending
+                finishTransfer();
+            } else {
+                // Transfer all elements from input to output stack
+                while (!inputStack.isEmpty()) {
+                    outputStack.push(inputStack.pop());
+                    moves++;
+                }
+            }
+        }
+        return outputStack.peek();
+    }
+    
+    /**
+     * Returns whether the queue is empty.
+     */
+    public boolean empty() {
+        return size() == 0;
+    }
+    
+    /**
+     * Get the size of the queue.
+     */
+    public int size() {
+        if (incremental) {
+            int transferring = transferSource == null ? 0 : transferSource.size() + transferTarget.size();
+            return inputStack.size() + readySize + transferring;
+        }
+        return inputStack.size() + outputStack.size();
+    }
+    
+    /**
+     * One unit of incremental work, done by every push and pop.
+     * 
+     * When idle and the input stack has grown larger than everything ready
+     * to be read, the input stack is frozen and a fresh one takes new
+     * pushes. The frozen stack is then reversed TRANSFER_STEPS elements per
+     * operation into a new segment, which joins readyStacks when complete.
+     * A frozen stack holds at most readySize + 1 elements and pops consume
+     * one ready element per operation, so with two steps per operation the
+     * reversal finishes before the ready elements run out.
+     */
+    private void step() {
+        if (transferSource == null && inputStack.size() > readySize) {
+            transferSource = inputStack;
+            inputStack = takeSpare();
+            transferTarget = takeSpare();
+        }
+        if (transferSource == null) {
+            return;
+        }
+        for (int i = 0; i < TRANSFER_STEPS && !transferSource.isEmpty(); i++) {
+            transferTarget.push(transferSource.pop());
+            moves++;
+        }
+        if (transferSource.isEmpty()) {
+            completeTransfer();
+        }
+    }
+    
+    private void finishTransfer() {
+        if (transferSource == null && !inputStack.isEmpty()) {
+            step();
+        }
+        if (transferSource != null) {
+            while (!transferSource.isEmpty()) {
+                transferTarget.push(transferSource.pop());
+                moves++;
+            }
+            completeTransfer();
+        }
+    }
+    
+    private void completeTransfer() {
+        readySize += transferTarget.size();
+        if (outputStack.isEmpty()) {
+            spareStacks.push(outputStack);
+            outputStack = transferTarget;
+        } else {
+            readyStacks.add(transferTarget);
+        }
+        spareStacks.push(transferSource);
+        transferSource = null;
+        transferTarget = null;
+    }
+    
+    private Stack<Integer> takeSpare() {
+        return spareStacks.isEmpty() ? new Stack<>() : spareStacks.pop();
+    }
+    
+    /**
+     * Display the current state of both stacks.
+     */
+    public void displayStacks() {
+        System.out.println("Input Stack: " + inputStack);
+        System.out.println("Output Stack: " + outputStack);
+        if (incremental) {
+            System.out.println("Queued Output Stacks: " + readyStacks);
+            if (transferSource != null) {
+                System.out.println("Transferring: " + transferSource + " -> " + transferTarget);
+            }
+        }
+        System.out.println("Queue is empty: " + empty());
+        System.out.println("Queue size: " + size());
+        if (!empty()) {
+            System.out.println("Front element: " + peek());
+        }
+        System.out.println();
+    }
+    
+    /**
+     * Primitive int queue on a ring buffer
+     * 
+     * Capacity is a power of two so positions wrap with a mask instead of
+     * a modulo; head and tail are free-running counters. Growth doubles
+     * the array and unrolls the ring with at most two arraycopy calls.
+     * No boxing, no locking, and no allocation once capacity is reached.
+     */
+    public static class RingBufferQueue {
+        private static final int DEFAULT_CAPACITY = 16;
+        
+        private int[] buffer;
+        private int mask;
+        private long head;  // Next position to read
+        private long tail;  // Next position to write
+        
+        public RingBufferQueue() {
+            this(DEFAULT_CAPACITY);
+        }
+        
+        public RingBufferQueue(int initialCapacity) {
+            int capacity = Integer.highestOneBit(Math.max(2, initialCapacity) * 2 - 1);
+            buffer = new int[capacity];
+            mask = capacity - 1;
+        }
+        
+        public void push(int x) {
+            if (size() == buffer.length) {
+                grow(size() + 1);
+            }
+            buffer[(int) tail & mask] = x;
+            tail++;
+        }
+        
+        /**
+         * Appends every element of values in order
+         */
+        public void pushAll(int[] values) {
+            pushAll(values, 0, values.length);
+        }
+        
+        public void pushAll(int[] values, int offset, int length) {
+            if (size() + length > buffer.length) {
+                grow(size() + length);
+            }
+            int start = (int) tail & mask;
+            int firstPart = Math.min(length, buffer.length - start);
+            System.arraycopy(values, offset, buffer, start, firstPart);
+            System.arraycopy(values, offset + firstPart, buffer, 0, length - firstPart);
+            tail += length;
+        }
+        
+        public int pop() {
+            if (head == tail) {
+                throw new IllegalStateException("Queue is empty");
+            }
+            int front = buffer[(int) head & mask];
+            head++;
+            return front;
+        }
+        
+        public int peek() {
+            if (head == tail) {
+                throw new IllegalStateException("Queue is empty");
+            }
+            return buffer[(int) head & mask];
+        }
+        
+        /**
+         * Removes up to target.length elements into target; returns the count
+         */
+        public int drainTo(int[] target) {
+            return drainTo(target, 0, target.length);
+        }
+        
+        public int drainTo(int[] target, int offset, int maxLength) {
+            int count = Math.min(maxLength, size());
+            int start = (int) head & mask;
+            int firstPart = Math.min(count, buffer.length - start);
+            System.arraycopy(buffer, start, target, offset, firstPart);
+            System.arraycopy(buffer, 0, target, offset + firstPart, count - firstPart);
+            head += count;
+            return count;
+        }
+        
+        public boolean empty() {
+            return head == tail;
+        }
+        
+        public int size() {
+            return (int) (tail - head);
+        }
+        
+        public int capacity() {
+            return buffer.length;
+        }
+        
+        private void grow(int minCapacity) {
+            int capacity = buffer.length;
+            while (capacity < minCapacity) {
+                capacity <<= 1;
+            }
+            int[] grown = new int[capacity];
+            int size = size();
+            drainTo(grown, 0, size);
+            buffer = grown;
+            mask = capacity - 1;
+            head = 0;
+            tail = size;
+        }
+        
+        public void displayQueue() {
+            System.out.print("Ring buffer (front first): [");
+            for (long i = head; i < tail; i++) {
+                System.out.print(buffer[(int) i & mask]);
+                if (i < tail - 1) System.out.print(", ");
+            }
+            System.out.println("]");
+            System.out.println("Queue size: " + size() + ", capacity: " + capacity());
+            System.out.println();
+        }
+    }
+    
+    // ========== CONCURRENT HAND-OFF QUEUES ==========
+    
+    private static final int SPINS_BEFORE_YIELD = 64;
+    
+    /**
+     * Bounded int queue shared between threads. poll() returns EMPTY instead
+     * of blocking; push() and pop() spin until they succeed, yielding the
+     * CPU after a short burst so the other side can run when threads
+     * outnumber cores.
+     */
+    public interface ConcurrentIntQueue {
+        long EMPTY = Long.MIN_VALUE;
+        
+        boolean offer(int x);
+        
+        long poll();
+        
+        /**
+         * Front element without removing it; throws IllegalStateException
+         * when the queue is empty
+         */
+        int peek();
+        
+        default void push(int x) {
+            for (int spins = 0; !offer(x); spins++) {
+                idle(spins);
+            }
+        }
+        
+        default int pop() {
+            long front;
+            for (int spins = 0; (front = poll()) == EMPTY; spins++) {
+                idle(spins);
+            }
+            return (int) front;
+        }
+        
+        private static void idle(int spins) {
+            if (spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        
+        int size();
+        
+        default boolean empty() {
+            return size() == 0;
+        }
+    }
+    
+    // Cache-line padding: superclass fields are laid out before subclass fields
+    abstract static class SpscPadding0 {
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+    
+    abstract static class SpscProducerFields extends SpscPadding0 {
+        long tail;       // Written only by the producer
+        long headCache;  // Producer's last view of head
+    }
+    
+    abstract static class SpscPadding1 extends SpscProducerFields {
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+    
+    abstract static class SpscConsumerFields extends SpscPadding1 {
+        long head;       // Written only by the consumer
+        long tailCache;  // Consumer's last view of tail
+    }
+    
+    abstract static class SpscPadding2 extends SpscConsumerFields {
+        long p20, p21, p22, p23, p24, p25, p26, p27;
+    }
+    
+    /**
+     * Single-producer/single-consumer wait-free ring buffer
+     * 
+     * Only the producer writes tail and only the consumer writes head, so
+     * no CAS is needed: each side publishes its counter with a release
+     * store and reads the other's with an acquire load. Each side also
+     * caches the other's counter and only re-reads it when the cached value
+     * says the queue is full (or empty), which keeps the two cache lines
+     * from bouncing on every operation. The counters sit on separate cache
+     * lines to avoid false sharing.
+     * 
+     * Exactly one thread may call offer/push and exactly one may call
+     * poll/pop/peek.
+     */
+    public static final class SpscQueue extends SpscPadding2 implements ConcurrentIntQueue {
+        private static final VarHandle TAIL;
+        private static final VarHandle HEAD;
+        
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                TAIL = lookup.findVarHandle(SpscProducerFields.class, "tail", long.class);
+                HEAD = lookup.findVarHandle(SpscConsumerFields.class, "head", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+        
+        private final int[] buffer;
+        private final int mask;
+        
+        public SpscQueue(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+            buffer = new int[size];
+            mask = size - 1;
+        }
+        
+        @Override
+        public boolean offer(int x) {
+            long t = tail;
+            if (t - headCache >= buffer.length) {
+                headCache = (long) HEAD.getAcquire(this);
+                if (t - headCache >= buffer.length) {
+                    return false;
+                }
+            }
+            buffer[(int) t & mask] = x;
+            TAIL.setRelease(this, t + 1);
+            return true;
+        }
+        
+        @Override
+        public long poll() {
+            long h = head;
+            if (h >= tailCache) {
+                tailCache = (long) TAIL.getAcquire(this);
+                if (h >= tailCache) {
+                    return EMPTY;
+                }
+            }
+            int front = buffer[(int) h & mask];
+            HEAD.setRelease(this, h + 1);
+            return front;
+        }
+        
+        /**
+         * Front element; consumer thread only
+         */
+        @Override
+        public int peek() {
+            long h = head;
+            if (h >= (long) TAIL.getAcquire(this)) {
+                throw new IllegalStateException("Queue is empty");
+            }
+            return buffer[(int) h & mask];
+        }
+        
+        @Override
+        public int size() {
+            long h = (long) HEAD.getAcquire(this);
+            long t = (long) TAIL.getAcquire(this);
+            return (int) Math.max(0, Math.min(buffer.length, t - h));
+        }
+    }
+    
+    abstract static class MpmcPadding0 {
+        long p00, p01, p02, p03, p04, p05, p06, p07;
+    }
+    
+    abstract static class MpmcEnqueueField extends MpmcPadding0 {
+        long enqueuePos;
+    }
+    
+    abstract static class MpmcPadding1 extends MpmcEnqueueField {
+        long p10, p11, p12, p13, p14, p15, p16, p17;
+    }
+    
+    abstract static class MpmcDequeueField extends MpmcPadding1 {
+        long dequeuePos;
+    }
+    
+    abstract static class MpmcPadding2 extends MpmcDequeueField {
+        long p20, p21, p22, p23, p24, p25, p26, p27;
+    }
+    
+    /**
+     * Bounded multi-producer/multi-consumer lock-free queue
+     * 
+     * Every slot carries a sequence number telling whose turn it is: slot
+     * i is free for the producer of position p when its sequence equals p,
+     * and holds data for the consumer of position p when it equals p + 1.
+     * A producer (consumer) claims a position with one CAS on enqueuePos
+     * (dequeuePos), writes (reads) the slot, and hands it on with a
+     * release store of the next sequence. Producers and consumers only
+     * contend among themselves, never with each other.
+     */
+    public static final class MpmcQueue extends MpmcPadding2 implements ConcurrentIntQueue {
+        private static final VarHandle ENQUEUE;
+        private static final VarHandle DEQUEUE;
+        private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+        
+        static {
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                ENQUEUE = lookup.findVarHandle(MpmcEnqueueField.class, "enqueuePos", long.class);
+                DEQUEUE = lookup.findVarHandle(MpmcDequeueField.class, "dequeuePos", long.class);
+            } catch (ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+        
+        private final int[] buffer;
+        private final long[] sequence;
+        private final int mask;
+        
+        public MpmcQueue(int capacity) {
+            int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+            buffer = new int[size];
+            sequence = new long[size];
+            mask = size - 1;
+            for (int i = 0; i < size; i++) {
+                sequence[i] = i;
+            }
+        }
+        
+        @Override
+        public boolean offer(int x) {
+            long pos = (long) ENQUEUE.getVolatile(this);
+            while (true) {
+                int slot = (int) pos & mask;
+                long diff = (long) SEQUENCE.getAcquire(sequence, slot) - pos;
+                if (diff == 0) {
+                    if (ENQUEUE.compareAndSet(this, pos, pos + 1)) {
+                        buffer[slot] = x;
+                        SEQUENCE.setRelease(sequence, slot, pos + 1);
+                        return true;
+                    }
+                    pos = (long) ENQUEUE.getVolatile(this);
+                } else if (diff < 0) {
+                    return false; // Slot still holds last lap's element: full
+                } else {
+                    pos = (long) ENQUEUE.getVolatile(this);
+                }
+            }
+        }
+        
+        @Override
+        public long poll() {
+            long pos = (long) DEQUEUE.getVolatile(this);
+            while (true) {
+                int slot = (int) pos & mask;
+                long diff = (long) SEQUENCE.getAcquire(sequence, slot) - (pos + 1);
+                if (diff == 0) {
+                    if (DEQUEUE.compareAndSet(this, pos, pos + 1)) {
+                        int front = buffer[slot];
+                        SEQUENCE.setRelease(sequence, slot, pos + mask + 1);
+                        return front;
+                    }
+                    pos = (long) DEQUEUE.getVolatile(this);
+                } else if (diff < 0) {
+                    return EMPTY; // Producer has not filled this slot yet
+                } else {
+                    pos = (long) DEQUEUE.getVolatile(this);
+                }
+            }
+        }
+        
+        /**
+         * Front element at the moment of the call
+         */
+        @Override
+        public int peek() {
+            while (true) {
+                long pos = (long) DEQUEUE.getVolatile(this);
+                int slot = (int) pos & mask;
+                if ((long) SEQUENCE.getAcquire(sequence, slot) != pos + 1) {
+                    if ((long) DEQUEUE.getVolatile(this) == pos) {
+                        throw new IllegalStateException("Queue is empty");
+                    }
+                    continue;
+                }
+                int front = buffer[slot];
+                // The slot must not have been consumed (and refilled) while reading
+                VarHandle.acquireFence();
+                if ((long) SEQUENCE.getAcquire(sequence, slot) == pos + 1) {
+                    return front;
+                }
+            }
+        }
+        
+        @Override
+        public int size() {
+            long dequeued = (long) DEQUEUE.getVolatile(this);
+            long enqueued = (long) ENQUEUE.getVolatile(this);
+            return (int) Math.max(0, Math.min(buffer.length, enqueued - dequeued));
+        }
+    }
+    
+    /**
+     * Wraps a java.util.concurrent queue of Integer for comparison
+     */
+    public static ConcurrentIntQueue boxed(java.util.Queue<Integer> queue) {
+        return new ConcurrentIntQueue() {
+            @Override
+            public boolean offer(int x) {
+                return queue.offer(x);
+            }
+            
+            @Override
+            public long poll() {
+                Integer front = queue.poll();
+                return front == null ? EMPTY : front;
+            }
+            
+            @Override
+            public int peek() {
+                Integer front = queue.peek();
+                if (front == null) {
+                    throw new IllegalStateException("Queue is empty");
+                }
+                return front;
+            }
+            
+            @Override
+            public int size() {
+                return queue.size();
+            }
+        };
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        QueueWithStacks queue = new QueueWithStacks();
+        
+        System.out.println("=== Queue Implementation using Stacks ===");
+        System.out.println("Initial state:");
+        queue.displayStacks();
+        
+        // Test push operations
+        System.out.println("Pushing elements: 1, 2, 3, 4, 5");
+        queue.push(1);
+        queue.push(2);
+        queue.push(3);
+        queue.push(4);
+        queue.push(5);
+        queue.displayStacks();
+        
+        // Test peek operation
+        System.out.println("Peeking front element:");
+        System.out.println("Front element: " + queue.peek());
+        queue.displayStacks();
+        
+        // Test pop operations
+        System.out.println("Popping elements:");
+        System.out.println("Popped: " + queue.pop());
+        queue.displayStacks();
+        
+        System.out.println("Popped: " + queue.pop());
+        queue.displayStacks();
+        
+        // Push more elements
+        System.out.println("Pushing more elements: 6, 7");
+        queue.push(6);
+        queue.push(7);
+        queue.displayStacks();
+        
+        // Pop remaining elements
+        System.out.println("Popping remaining elements:");
+        while (!queue.empty()) {
+            System.out.println("Popped: " + queue.pop());
+            queue.displayStacks();
+        }
+        
+        System.out.println("Final state:");
+        queue.displayStacks();
+        
+        // Test with empty queue
+        System.out.println("Testing with empty queue:");
+        System.out.println("Is empty: " + queue.empty());
+        System.out.println("Size: " + queue.size());
+        
+        System.out.println("\n=== Incremental Transfer Mode ===");
+        QueueWithStacks incremental = new QueueWithStacks(true);
+        for (int i = 1; i <= 6; i++) {
+            incremental.push(i);
+        }
+        incremental.displayStacks();
+        System.out.println("Popped: " + incremental.pop());
+        incremental.displayStacks();
+        
+        System.out.println("=== Ring Buffer Queue ===");
+        RingBufferQueue ring = new RingBufferQueue(4);
+        ring.pushAll(new int[]{1, 2, 3});
+        System.out.println("Popped: " + ring.pop());
+        ring.pushAll(new int[]{4, 5, 6, 7});  // Wraps around, then grows
+        ring.displayQueue();
+        int[] drained = new int[4];
+        int count = ring.drainTo(drained);
+        System.out.println("Drained " + count + " elements: " + java.util.Arrays.toString(drained));
+        ring.displayQueue();
+        
+        // Worst single pop after a burst of pushes, and overall throughput
+        System.out.println("=== Performance Comparison ===");
+        int burst = 1_000_000;
+        for (int round = 0; round < 3; round++) {
+            QueueWithStacks amortized = new QueueWithStacks();
+            QueueWithStacks bounded = new QueueWithStacks(true);
+            RingBufferQueue buffer = new RingBufferQueue();
+            long amortizedWorst = 0, boundedWorst = 0, bufferWorst = 0;
+            long amortizedTotal = 0, boundedTotal = 0, bufferTotal = 0;
+            
+            long startTime = System.nanoTime();
+            for (int i = 0; i < burst; i++) amortized.push(i);
+            amortizedTotal += System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            for (int i = 0; i < burst; i++) bounded.push(i);
+            boundedTotal += System.nanoTime() - startTime;
+            startTime = System.nanoTime();
+            for (int i = 0; i < burst; i++) buffer.push(i);
+            bufferTotal += System.nanoTime() - startTime;
+            
+            for (int i = 0; i < burst; i++) {
+                long t0 = System.nanoTime();
+                amortized.pop();
+                long t1 = System.nanoTime();
+                bounded.pop();
+                long t2 = System.nanoTime();
+                buffer.pop();
+                long t3 = System.nanoTime();
+                amortizedWorst = Math.max(amortizedWorst, t1 - t0);
+                boundedWorst = Math.max(boundedWorst, t2 - t1);
+                bufferWorst = Math.max(bufferWorst, t3 - t2);
+                amortizedTotal += t1 - t0;
+                boundedTotal += t2 - t1;
+                bufferTotal += t3 - t2;
+            }
+            System.out.println("Round " + (round + 1) + " (" + burst + " pushes, then pops):");
+            System.out.println("  Amortized two-stack:   total " + amortizedTotal / 1_000_000 + "ms, worst pop "
+                + amortizedWorst / 1000 + "us");
+            System.out.println("  Incremental two-stack: total " + boundedTotal / 1_000_000 + "ms, worst pop "
+                + boundedWorst / 1000 + "us");
+            System.out.println("  Ring buffer:           total " + bufferTotal / 1_000_000 + "ms, worst pop "
+                + bufferWorst / 1000 + "us");
+        }
+        
+        System.out.println("\n=== Concurrent Queues (single thread) ===");
+        for (ConcurrentIntQueue concurrent : new ConcurrentIntQueue[]{new SpscQueue(4), new MpmcQueue(4)}) {
+            int offered = 0;
+            while (concurrent.offer(offered)) {
+                offered++;
+            }
+            System.out.println(concurrent.getClass().getSimpleName() + ": accepted " + offered
+                + " elements, front " + concurrent.peek() + ", polled " + concurrent.poll()
+                + ", size " + concurrent.size());
+        }
+    }
+}
+
+
+
@@ -0,0 +1,254 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Range Maximum Subarray Queries (Segment Tree)
+ *
+ * Answers "largest subarray sum within nums[l..r]" over a fixed array
+ * without rescanning the range. Every node of a segment tree stores the
+ * MaximumSubarray segment summary of its range: total, best prefix, best
+ * suffix and best subarray. Two neighbouring summaries combine in O(1), so
+ * a range query combines the O(log n) nodes that cover it.
+ *
+ * The tree is implicit: node i has children 2i and 2i+1, leaves start at
+ * index size (n rounded up to a power of two), and the four fields live in
+ * four parallel long[] arrays. Padding leaves hold the identity summary.
+ * Subtrees are built bottom-up on Fork/Join workers.
+ *
+ * Time Complexity: O(n) build, O(log n) query and update
+ * Space Complexity: O(n), 4 longs per node
+ */
+public class RangeMaxSubarray {
+
+    // Prefix, suffix and best of the empty range; small enough to lose every
+    // max, large enough that adding two of them cannot overflow
+    private static final long NONE = Long.MIN_VALUE / 4;
+
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+    private final int n;
+    private final int size;
+    private final long[] total;
+    private final long[] prefix;
+    private final long[] suffix;
+    private final long[] best;
+
+    public RangeMaxSubarray(int[] nums) {
+        this(nums, ForkJoinPool.commonPool());
+    }
+
+    public RangeMaxSubarray(int[] nums, ForkJoinPool pool) {
+        this.n = nums.length;
+        this.size = Math.max(1, Integer.highestOneBit(Math.max(1, n) * 2 - 1));
+        this.total = new long[2 * size];
+        this.prefix = new long[2 * size];
+        this.suffix = new long[2 * size];
+        this.best = new long[2 * size];
+
+        for (int i = 0; i < size; i++) {
+            setLeaf(size + i, i < n ? nums[i] : NONE);
+        }
+        if (n < PARALLEL_THRESHOLD) {
+            buildSubtree(1);
+        } else {
+            pool.invoke(new BuildTask(1, Math.max(PARALLEL_THRESHOLD / 4, size / (pool.getParallelism() * 4))));
+        }
+    }
+
+    public int length() {
+        return n;
+    }
+
+    /**
+     * Largest sum of a non-empty subarray of nums[left..right] (inclusive)
+     */
+    public long query(int left, int right) {
+        if (left < 0 || right >= n || left > right) {
+            throw new IndexOutOfBoundsException("Range [" + left + ", " + right + "] of length " + n);
+        }
+
+        // Covering nodes are collected from both ends inwards; the summaries
+        // are combined in order: accumulated left side, then the right side
+        long lTotal = 0, lPrefix = NONE, lSuffix = NONE, lBest = NONE;
+        long rTotal = 0, rPrefix = NONE, rSuffix = NONE, rBest = NONE;
+
+        for (int l = left + size, r = right + size + 1; l < r; l >>>= 1, r >>>= 1) {
+            if ((l & 1) != 0) {
+                lBest = Math.max(Math.max(lBest, best[l]), lSuffix + prefix[l]);
+                lPrefix = Math.max(lPrefix, lTotal + prefix[l]);
+                lSuffix = Math.max(suffix[l], total[l] + lSuffix);
+                lTotal += total[l];
+                l++;
+            }
+            if ((r & 1) != 0) {
+                r--;
+                rBest = Math.max(Math.max(best[r], rBest), suffix[r] + rPrefix);
+                rSuffix = Math.max(rSuffix, rTotal + suffix[r]);
+                rPrefix = Math.max(prefix[r], total[r] + rPrefix);
+                rTotal += total[r];
+            }
+        }
+
+        return Math.max(Math.max(lBest, rBest), lSuffix + rPrefix);
+    }
+
+    /**
+     * Answers many queries, visiting them grouped by both ends so that
+     * consecutive queries walk mostly the same nodes. Results are in input
+     * order.
+     */
+    public long[] query(int[] lefts, int[] rights) {
+        if (lefts.length != rights.length) {
+            throw new IllegalArgumentException("Need one right end per left end");
+        }
+
+        // Sort key: top 15 bits of the left end, then top 15 bits of the
+        // right end, then the query index, packed so one primitive sort does it
+        int shift = Math.max(0, Integer.numberOfTrailingZeros(size) - 15);
+        long[] order = new long[lefts.length];
+        for (int q = 0; q < lefts.length; q++) {
+            long cell = (long) (lefts[q] >>> shift) << 15 | rights[q] >>> shift;
+            order[q] = cell << 32 | q;
+        }
+        Arrays.sort(order);
+
+        long[] results = new long[lefts.length];
+        for (long packed : order) {
+            int q = (int) packed;
+            results[q] = query(lefts[q], rights[q]);
+        }
+        return results;
+    }
+
+    /**
+     * Sets nums[index] = value and refreshes the nodes above it
+     */
+    public void update(int index, int value) {
+        if (index < 0 || index >= n) {
+            throw new IndexOutOfBoundsException("Index " + index + " of length " + n);
+        }
+        int node = index + size;
+        setLeaf(node, value);
+        for (node >>>= 1; node > 0; node >>>= 1) {
+            pull(node);
+        }
+    }
+
+    private void setLeaf(int node, long value) {
+        total[node] = value == NONE ? 0 : value;
+        prefix[node] = value;
+        suffix[node] = value;
+        best[node] = value;
+    }
+
+    // Recomputes node from its two children
+    private void pull(int node) {
+        int a = 2 * node, b = a + 1;
+        total[node] = total[a] + total[b];
+        prefix[node] = Math.max(prefix[a], total[a] + prefix[b]);
+        suffix[node] = Math.max(suffix[b], total[b] + suffix[a]);
+        best[node] = Math.max(Math.max(best[a], best[b]), suffix[a] + prefix[b]);
+    }
+
+    // Builds the subtree under root one level at a time, deepest first;
+    // each level of a subtree is a contiguous range of nodes
+    private void buildSubtree(int root) {
+        int height = Integer.numberOfTrailingZeros(size) - (31 - Integer.numberOfLeadingZeros(root));
+        for (int d = height - 1; d >= 0; d--) {
+            for (int node = root << d, end = (root + 1) << d; node < end; node++) {
+                pull(node);
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class BuildTask extends RecursiveAction {
+        private final int root;
+        private final int grain;
+
+        BuildTask(int root, int grain) {
+            this.root = root;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            int leaves = size >>> (31 - Integer.numberOfLeadingZeros(root));
+            if (leaves <= grain) {
+                buildSubtree(root);
+                return;
+            }
+            invokeAll(new BuildTask(2 * root, grain), new BuildTask(2 * root + 1, grain));
+            pull(root);
+        }
+    }
+
+    // Main method for testing
+    public static void main(String[] args) {
+        int[] nums = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        RangeMaxSubarray tree = new RangeMaxSubarray(nums);
+        int[][] ranges = {{0, 8}, {0, 2}, {3, 6}, {6, 8}, {7, 7}};
+
+        System.out.print("Array: ");
+        MaximumSubarray.printArray(nums);
+        System.out.println();
+        for (int[] range : ranges) {
+            System.out.println("Best in [" + range[0] + ", " + range[1] + "]: " + tree.query(range[0], range[1])
+                + " (rescan: " + MaximumSubarray.maxSubArray(Arrays.copyOfRange(nums, range[0], range[1] + 1)) + ")");
+        }
+        tree.update(7, 5);
+        System.out.println("After nums[7] = 5, best in [0, 8]: " + tree.query(0, 8));
+
+        // Performance: many range queries over one large array
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 4_000_000;
+        int queries = 1_000_000;
+        Random random = new Random(42);
+        int[] big = new int[n];
+        for (int i = 0; i < n; i++) {
+            big[i] = random.nextInt(2001) - 1000;
+        }
+        int[] lefts = new int[queries];
+        int[] rights = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            int a = random.nextInt(n), b = random.nextInt(n);
+            lefts[q] = Math.min(a, b);
+            rights[q] = Math.max(a, b);
+        }
+
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            RangeMaxSubarray bigTree = new RangeMaxSubarray(big);
+            long buildTime = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            long checksum = 0;
+            for (int q = 0; q < queries; q++) {
+                checksum += bigTree.query(lefts[q], rights[q]);
+            }
+            long queryTime = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            long batchChecksum = 0;
+            for (long result : bigTree.query(lefts, rights)) {
+                batchChecksum += result;
+            }
+            long batchTime = System.currentTimeMillis() - startTime;
+
+            startTime = System.currentTimeMillis();
+            long rescanChecksum = 0;
+            for (int q = 0; q < 100; q++) {
+                rescanChecksum += MaximumSubarray.maxSubArrayLong(Arrays.copyOfRange(big, lefts[q], rights[q] + 1));
+            }
+            long rescanTime = System.currentTimeMillis() - startTime;
+
+            System.out.println("Round " + (round + 1) + ": build " + buildTime + "ms, " + queries + " queries "
+                + queryTime + "ms, sorted batch " + batchTime + "ms (same: " + (checksum == batchChecksum)
+                + "), copy + rescan of the first 100 only " + rescanTime + "ms");
+        }
+    }
+}
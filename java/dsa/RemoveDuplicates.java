@@ -1,3 +1,5 @@
+package dsa;
+
 /**
  * Remove Duplicates from Sorted Array Problem Solution
  * 
@@ -28,6 +30,28 @@ public class RemoveDuplicates {
         return writeIndex;
     }
     
+    // Same two-pointer approach directly on a memory-mapped file (no heap copy)
+    public static long removeDuplicates(MappedIntArray nums) {
+        long length = nums.length();
+        if (length == 0) {
+            return 0;
+        }
+        
+        long writeIndex = 1;
+        int previous = nums.get(0);
+        
+        for (long readIndex = 1; readIndex < length; readIndex++) {
+            int current = nums.get(readIndex);
+            if (current != previous) {
+                nums.set(writeIndex, current);
+                writeIndex++;
+                previous = current;
+            }
+        }
+        
+        return writeIndex;
+    }
+    
     // Alternative approach using HashSet (not in-place, but shows another method)
     public static int removeDuplicatesWithSet(int[] nums) {
         if (nums == null || nums.length == 0) {
@@ -1,3 +1,5 @@
+package dsa;
+
 /**
  * Reverse Linked List Problem Solution
  * 
@@ -7,14 +9,6 @@
  * Time Complexity: O(n)
  * Space Complexity: O(1)
  */
-class ListNode {
-    int val;
-    ListNode next;
-    ListNode() {}
-    ListNode(int val) { this.val = val; }
-    ListNode(int val, ListNode next) { this.val = val; this.next = next; }
-}
-
 public class ReverseLinkedList {
     
     public static ListNode reverseList(ListNode head) {
@@ -1,3 +1,5 @@
+package dsa;
+
 /**
  * Rotate Array Problem Solution
  * 
@@ -66,6 +68,30 @@ public class RotateArray {
         }
     }
     
+    /**
+     * Method 2 on a memory-mapped file (in place, no heap copy)
+     */
+    public static void rotateInPlace(MappedIntArray nums, long k) {
+        long n = nums.length();
+        if (n == 0 || k == 0) {
+            return;
+        }
+        
+        k = k % n;
+        
+        reverse(nums, 0, n - 1);
+        reverse(nums, 0, k - 1);
+        reverse(nums, k, n - 1);
+    }
+    
+    private static void reverse(MappedIntArray nums, long start, long end) {
+        while (start < end) {
+            nums.swap(start, end);
+            start++;
+            end--;
+        }
+    }
+    
     /**
      * Method 3: Using cyclic replacements (Space O(1))
      */
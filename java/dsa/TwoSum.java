@@ -0,0 +1,885 @@
+package dsa;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Two Sum Problem Solution
+ * 
+ * Problem: Given an array of integers nums and an integer target, 
+ * return indices of the two numbers such that they add up to target.
+ * 
+ * Time Complexity: O(n)
+ * Space Complexity: O(n)
+ */
+public class TwoSum {
+    
+    public static int[] twoSum(int[] nums, int target) {
+        IntIntHashMap map = new IntIntHashMap(nums.length);
+        
+        for (int i = 0; i < nums.length; i++) {
+            int complement = target - nums[i];
+            
+            // Single probe: returns the stored index or NO_VALUE
+            int j = map.get(complement);
+            if (j != IntIntHashMap.NO_VALUE) {
+                return new int[]{j, i};
+            }
+            
+            map.put(nums[i], i);
+        }
+        
+        return new int[]{}; // No solution found
+    }
+    
+    /**
+     * Original boxed implementation, kept for the performance comparison
+     */
+    public static int[] twoSumWithHashMap(int[] nums, int target) {
+        Map<Integer, Integer> map = new HashMap<>();
+        
+        for (int i = 0; i < nums.length; i++) {
+            int complement = target - nums[i];
+            
+            if (map.containsKey(complement)) {
+                return new int[]{map.get(complement), i};
+            }
+            
+            map.put(nums[i], i);
+        }
+        
+        return new int[]{}; // No solution found
+    }
+    
+    /**
+     * Which pair the parallel search reports
+     */
+    public enum PairMode {
+        /** The same pair as twoSum: smallest second index, latest first index */
+        FIRST_PAIR,
+        /** Any valid pair; every task stops as soon as one is found */
+        ANY_PAIR
+    }
+    
+    /**
+     * Parallel Two Sum for very large arrays (Fork/Join)
+     * 
+     * Phase 1 builds one shared index of value -> first occurrence in
+     * parallel (lock-free CAS inserts). Phase 2 splits the array again and
+     * probes every element's complement; a pair (j, i) exists exactly when
+     * first[complement] < i, so partitions never need to probe each other.
+     * Probing stops early: in ANY_PAIR mode as soon as any task finds a
+     * pair, in FIRST_PAIR mode once every task has passed the best index
+     * found so far. The partner is then found by one backward scan from
+     * the reported index.
+     */
+    public static int[] twoSumParallel(int[] nums, int target, PairMode mode) {
+        return twoSumParallel(nums, target, mode, ForkJoinPool.commonPool());
+    }
+    
+    public static int[] twoSumParallel(int[] nums, int target, PairMode mode, ForkJoinPool pool) {
+        int n = nums.length;
+        if (n < PARALLEL_THRESHOLD) {
+            return twoSum(nums, target);
+        }
+        int grain = Math.max(PARALLEL_THRESHOLD / 4, n / (pool.getParallelism() * 8));
+        
+        ConcurrentFirstIndexMap index = new ConcurrentFirstIndexMap(n);
+        pool.invoke(new IndexTask(nums, index, 0, n, grain));
+        
+        AtomicInteger best = new AtomicInteger(Integer.MAX_VALUE);
+        pool.invoke(new ProbeTask(nums, target, index, best, mode, 0, n, grain));
+        
+        int i = best.get();
+        if (i == Integer.MAX_VALUE) {
+            return new int[]{};
+        }
+        // twoSum reports the latest occurrence of the complement before i;
+        // the index only knows the first, so scan back once (O(i))
+        int complement = target - nums[i];
+        int j = i - 1;
+        while (nums[j] != complement) {
+            j--;
+        }
+        return new int[]{j, i};
+    }
+    
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    // How many elements a task scans between cancellation checks
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+    
+    @SuppressWarnings("serial")
+    private static final class IndexTask extends RecursiveAction {
+        private final int[] nums;
+        private final ConcurrentFirstIndexMap index;
+        private final int lo, hi, grain;
+        
+        IndexTask(int[] nums, ConcurrentFirstIndexMap index, int lo, int hi, int grain) {
+            this.nums = nums;
+            this.index = index;
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected void compute() {
+            if (hi - lo <= grain) {
+                for (int i = lo; i < hi; i++) {
+                    index.putMin(nums[i], i);
+                }
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new IndexTask(nums, index, lo, mid, grain),
+                      new IndexTask(nums, index, mid, hi, grain));
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class ProbeTask extends RecursiveAction {
+        private final int[] nums;
+        private final int target;
+        private final ConcurrentFirstIndexMap index;
+        private final AtomicInteger best;
+        private final PairMode mode;
+        private final int lo, hi, grain;
+        
+        ProbeTask(int[] nums, int target, ConcurrentFirstIndexMap index, AtomicInteger best,
+                  PairMode mode, int lo, int hi, int grain) {
+            this.nums = nums;
+            this.target = target;
+            this.index = index;
+            this.best = best;
+            this.mode = mode;
+            this.lo = lo;
+            this.hi = hi;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected void compute() {
+            if (cancelled(lo)) {
+                return;
+            }
+            if (hi - lo <= grain) {
+                scan();
+                return;
+            }
+            int mid = (lo + hi) >>> 1;
+            invokeAll(new ProbeTask(nums, target, index, best, mode, lo, mid, grain),
+                      new ProbeTask(nums, target, index, best, mode, mid, hi, grain));
+        }
+        
+        private void scan() {
+            for (int block = lo; block < hi; block += CANCEL_CHECK_INTERVAL) {
+                if (cancelled(block)) {
+                    return;
+                }
+                int end = Math.min(hi, block + CANCEL_CHECK_INTERVAL);
+                for (int i = block; i < end; i++) {
+                    int j = index.get(target - nums[i]);
+                    if (j != ConcurrentFirstIndexMap.NO_VALUE && j < i) {
+                        best.accumulateAndGet(i, Math::min);
+                        return;
+                    }
+                }
+            }
+        }
+        
+        // Nothing at or after position i can improve on what was already found
+        private boolean cancelled(int i) {
+            int found = best.get();
+            return mode == PairMode.ANY_PAIR ? found != Integer.MAX_VALUE : i >= found;
+        }
+    }
+    
+    /**
+     * Fixed-capacity, lock-free int -> int map that keeps the smallest value
+     * stored for each key. Same layout as IntIntHashMap (interleaved slots,
+     * key 0 as empty sentinel); keys are claimed with a CAS and values are
+     * lowered with a CAS loop. Sized up front for a load factor of at most
+     * 3/4 because it never resizes; more than
+     * IntIntHashMap.MAX_CAPACITY * 3/4 keys are rejected. Values must be
+     * non-negative.
+     */
+    static final class ConcurrentFirstIndexMap {
+        static final int NO_VALUE = -1;
+        
+        private static final int FREE_KEY = 0;
+        
+        private final AtomicIntegerArray table;
+        private final int mask;
+        private final AtomicInteger zeroKeyValue = new AtomicInteger(Integer.MAX_VALUE);
+        
+        ConcurrentFirstIndexMap(int maxSize) {
+            int capacity = IntIntHashMap.capacityFor(maxSize);
+            table = new AtomicIntegerArray(capacity << 1);
+            mask = capacity - 1;
+        }
+        
+        void putMin(int key, int value) {
+            if (key == FREE_KEY) {
+                zeroKeyValue.accumulateAndGet(value, Math::min);
+                return;
+            }
+            int slot = IntIntHashMap.hash(key) & mask;
+            while (true) {
+                int k = table.get(slot << 1);
+                if (k == FREE_KEY) {
+                    if (table.compareAndSet(slot << 1, FREE_KEY, key)) {
+                        table.accumulateAndGet((slot << 1) + 1, value + 1, ConcurrentFirstIndexMap::minClaimed);
+                        return;
+                    }
+                    k = table.get(slot << 1); // Lost the race, re-read the winner
+                }
+                if (k == key) {
+                    table.accumulateAndGet((slot << 1) + 1, value + 1, ConcurrentFirstIndexMap::minClaimed);
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        int get(int key) {
+            if (key == FREE_KEY) {
+                int v = zeroKeyValue.get();
+                return v == Integer.MAX_VALUE ? NO_VALUE : v;
+            }
+            int slot = IntIntHashMap.hash(key) & mask;
+            while (true) {
+                int k = table.get(slot << 1);
+                if (k == key) {
+                    return table.get((slot << 1) + 1) - 1;
+                }
+                if (k == FREE_KEY) {
+                    return NO_VALUE;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        // Values are stored as index + 1 so that 0 can mean "claimed, not yet written"
+        private static int minClaimed(int current, int value) {
+            return current == 0 ? value : Math.min(current, value);
+        }
+    }
+    
+    /**
+     * Reusable index for answering many targets against the same array.
+     * 
+     * Built once in O(n log n): a hash index of the first occurrence of each
+     * value, plus a copy of (value, original index) pairs sorted by value and
+     * then by index. A query walks the array until the first i whose
+     * complement occurs earlier (one probe per element, early exit), then
+     * binary-searches the sorted copy for the latest such occurrence, so the
+     * answer is the pair twoSum would return whenever the exact sum of that
+     * pair is the target. Targets outside [smallest pair sum, largest pair
+     * sum] are rejected in O(1).
+     * 
+     * Sums are computed exactly (in long). twoSum computes target - nums[i]
+     * in int, so when that subtraction overflows it can match a pair whose
+     * sum only wraps around to the target; find skips such elements instead
+     * and may report a later pair, or none.
+     * 
+     * find allocates nothing and may be called from several threads;
+     * a query that has no answer still costs O(n). findAll reuses scratch
+     * storage held by the index, so it must not run concurrently on the
+     * same instance.
+     */
+    public static final class TwoSumIndex {
+        private final int[] nums;
+        private final IntIntHashMap firstIndex;
+        private final long[] sortedPairs; // (value << 32) | index
+        private final long minPairSum;
+        private final long maxPairSum;
+        
+        // findAll scratch: target -> first position in the batch, and one answer
+        private IntIntHashMap seenTargets;
+        private final int[] pair = new int[2];
+        
+        public TwoSumIndex(int[] nums) {
+            int n = nums.length;
+            this.nums = nums.clone();
+            this.firstIndex = new IntIntHashMap(n);
+            this.sortedPairs = new long[n];
+            
+            // Walk backwards so the first occurrence of each value wins
+            for (int i = n - 1; i >= 0; i--) {
+                firstIndex.put(nums[i], i);
+            }
+            for (int i = 0; i < n; i++) {
+                sortedPairs[i] = ((long) nums[i] << 32) | i;
+            }
+            Arrays.sort(sortedPairs);
+            
+            if (n >= 2) {
+                minPairSum = (long) valueAt(0) + valueAt(1);
+                maxPairSum = (long) valueAt(n - 2) + valueAt(n - 1);
+            } else {
+                minPairSum = Long.MAX_VALUE;
+                maxPairSum = Long.MIN_VALUE;
+            }
+        }
+        
+        /**
+         * Finds the pair twoSum(nums, target) would return and writes it to
+         * out[0], out[1]. Returns false (leaving out untouched) if none exists.
+         */
+        public boolean find(int target, int[] out) {
+            if (target < minPairSum || target > maxPairSum) {
+                return false;
+            }
+            int[] a = nums;
+            for (int i = 1; i < a.length; i++) {
+                long complement = (long) target - a[i];
+                if (complement < Integer.MIN_VALUE || complement > Integer.MAX_VALUE) {
+                    continue;
+                }
+                int first = firstIndex.get((int) complement);
+                if (first != IntIntHashMap.NO_VALUE && first < i) {
+                    out[0] = latestIndexBefore((int) complement, i);
+                    out[1] = i;
+                    return true;
+                }
+            }
+            return false;
+        }
+        
+        /**
+         * Answers every target in one call. Result k occupies out[2k] and
+         * out[2k + 1]; both are -1 when target k has no pair. Repeated targets
+         * are answered once and copied.
+         */
+        public int[] findAll(int[] targets) {
+            int[] out = new int[targets.length * 2];
+            findAll(targets, out);
+            return out;
+        }
+        
+        public void findAll(int[] targets, int[] out) {
+            IntIntHashMap seen = seenTargets;
+            if (seen == null) {
+                seen = seenTargets = new IntIntHashMap(targets.length);
+            } else {
+                seen.clear();
+            }
+            
+            for (int k = 0; k < targets.length; k++) {
+                int earlier = seen.get(targets[k]);
+                if (earlier != IntIntHashMap.NO_VALUE) {
+                    out[2 * k] = out[2 * earlier];
+                    out[2 * k + 1] = out[2 * earlier + 1];
+                    continue;
+                }
+                seen.put(targets[k], k);
+                
+                if (find(targets[k], pair)) {
+                    out[2 * k] = pair[0];
+                    out[2 * k + 1] = pair[1];
+                } else {
+                    out[2 * k] = -1;
+                    out[2 * k + 1] = -1;
+                }
+            }
+        }
+        
+        public int size() {
+            return nums.length;
+        }
+        
+        private int valueAt(int sortedPos) {
+            return (int) (sortedPairs[sortedPos] >> 32);
+        }
+        
+        // Largest index j < limit with nums[j] == value; caller guarantees one exists
+        private int latestIndexBefore(int value, int limit) {
+            int pos = Arrays.binarySearch(sortedPairs, ((long) value << 32) | limit);
+            int predecessor = (pos >= 0 ? pos : -pos - 1) - 1;
+            return (int) sortedPairs[predecessor];
+        }
+    }
+    
+    /**
+     * Receives pairs found by StreamingTwoSum; return false to stop the stream.
+     * Called at most once per secondIndex, with the most recent matching
+     * firstIndex only: earlier occurrences of the same complement are not
+     * reported.
+     */
+    @FunctionalInterface
+    public interface PairListener {
+        boolean onPair(long firstIndex, long secondIndex);
+    }
+    
+    /**
+     * Two Sum over a stream of ints that is never materialized as an array.
+     * 
+     * Every element is checked against the elements seen before it and each
+     * match (j, i) is reported as soon as element i arrives, with j the
+     * latest earlier occurrence of the complement, as in twoSum. Indices are
+     * stream positions (long), so inputs may exceed 2^31 elements.
+     * 
+     * In unbounded mode the index grows with the number of distinct values.
+     * In window mode only pairs with i - j < windowSize are reported; the
+     * last windowSize values are kept in a ring buffer and expired entries
+     * are deleted from the index, so memory is O(windowSize).
+     */
+    public static final class StreamingTwoSum {
+        private static final int UNBOUNDED = 0;
+        private static final int READ_BUFFER_BYTES = 1 << 16;
+        
+        private final int target;
+        private final PairListener listener;
+        private final int windowSize;
+        private final int[] window;
+        private final IntLongHashMap latestIndex;
+        private long position;
+        private boolean stopped;
+        
+        /**
+         * Unbounded: every earlier element can be a partner
+         */
+        public StreamingTwoSum(int target, PairListener listener) {
+            this.target = target;
+            this.listener = listener;
+            this.windowSize = UNBOUNDED;
+            this.window = null;
+            this.latestIndex = new IntLongHashMap(1024);
+        }
+        
+        /**
+         * Only pairs less than windowSize positions apart are reported;
+         * windowSize must be positive
+         */
+        public StreamingTwoSum(int target, int windowSize, PairListener listener) {
+            if (windowSize <= 0) {
+                throw new IllegalArgumentException("Window size must be positive: " + windowSize);
+            }
+            this.target = target;
+            this.listener = listener;
+            this.windowSize = windowSize;
+            this.window = new int[windowSize];
+            this.latestIndex = new IntLongHashMap(windowSize);
+        }
+        
+        /**
+         * Consumes one value. Returns false once the listener has asked to stop.
+         */
+        public boolean offer(int value) {
+            if (stopped) {
+                return false;
+            }
+            long i = position++;
+            
+            if (window != null) {
+                int slot = (int) (i % windowSize);
+                if (i >= windowSize) {
+                    // Element i - windowSize leaves the window
+                    int expired = window[slot];
+                    if (latestIndex.get(expired) == i - windowSize) {
+                        latestIndex.remove(expired);
+                    }
+                }
+                window[slot] = value;
+            }
+            
+            long j = latestIndex.get(target - value);
+            if (j != IntLongHashMap.NO_VALUE && !listener.onPair(j, i)) {
+                stopped = true;
+            }
+            latestIndex.put(value, i);
+            return !stopped;
+        }
+        
+        public long consume(PrimitiveIterator.OfInt values) {
+            long start = position;
+            while (!stopped && values.hasNext()) {
+                offer(values.nextInt());
+            }
+            return position - start;
+        }
+        
+        public long consume(IntStream values) {
+            return consume(values.iterator());
+        }
+        
+        /**
+         * Reads little-endian 32-bit ints until end of stream or until the
+         * listener stops. A trailing partial int is ignored.
+         */
+        public long consume(ReadableByteChannel channel) throws IOException {
+            long start = position;
+            ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            
+            while (!stopped && channel.read(buffer) >= 0) {
+                buffer.flip();
+                while (!stopped && buffer.remaining() >= Integer.BYTES) {
+                    offer(buffer.getInt());
+                }
+                buffer.compact(); // Keep a split int for the next read
+            }
+            return position - start;
+        }
+        
+        public long count() {
+            return position;
+        }
+        
+        public boolean isStopped() {
+            return stopped;
+        }
+    }
+    
+    /**
+     * Open-addressing int -> long map with deletion, for stream positions.
+     * 
+     * Separate key and value arrays, linear probing, power-of-two capacity
+     * and load factor at most 3/4, sized and capped as in IntIntHashMap.
+     * Key 0 marks an empty slot and the real key 0 is stored out of line.
+     * remove() uses backward-shift deletion, so no tombstones accumulate
+     * in a long-running window. Values must be non-negative.
+     */
+    static final class IntLongHashMap {
+        static final long NO_VALUE = -1;
+        
+        private static final int FREE_KEY = 0;
+        
+        private int[] keys;
+        private long[] values;
+        private int mask;
+        private int size;
+        private int resizeThreshold;
+        private long zeroKeyValue = NO_VALUE;
+        
+        IntLongHashMap(int expectedSize) {
+            allocate(IntIntHashMap.capacityFor(expectedSize));
+        }
+        
+        long get(int key) {
+            if (key == FREE_KEY) {
+                return zeroKeyValue;
+            }
+            int slot = IntIntHashMap.hash(key) & mask;
+            while (true) {
+                int k = keys[slot];
+                if (k == key) {
+                    return values[slot];
+                }
+                if (k == FREE_KEY) {
+                    return NO_VALUE;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        void put(int key, long value) {
+            if (key == FREE_KEY) {
+                if (zeroKeyValue == NO_VALUE) size++;
+                zeroKeyValue = value;
+                return;
+            }
+            int slot = IntIntHashMap.hash(key) & mask;
+            while (true) {
+                int k = keys[slot];
+                if (k == key) {
+                    values[slot] = value;
+                    return;
+                }
+                if (k == FREE_KEY) {
+                    keys[slot] = key;
+                    values[slot] = value;
+                    if (++size > resizeThreshold) {
+                        rehash();
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        void remove(int key) {
+            if (key == FREE_KEY) {
+                if (zeroKeyValue != NO_VALUE) size--;
+                zeroKeyValue = NO_VALUE;
+                return;
+            }
+            int slot = IntIntHashMap.hash(key) & mask;
+            while (keys[slot] != key) {
+                if (keys[slot] == FREE_KEY) {
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+            size--;
+            
+            // Shift later entries of the probe chain back into the hole
+            int hole = slot;
+            int next = (hole + 1) & mask;
+            while (keys[next] != FREE_KEY) {
+                int home = IntIntHashMap.hash(keys[next]) & mask;
+                if (((next - home) & mask) >= ((next - hole) & mask)) {
+                    keys[hole] = keys[next];
+                    values[hole] = values[next];
+                    hole = next;
+                }
+                next = (next + 1) & mask;
+            }
+            keys[hole] = FREE_KEY;
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        private void allocate(int capacity) {
+            keys = new int[capacity];
+            values = new long[capacity];
+            mask = capacity - 1;
+            resizeThreshold = IntIntHashMap.resizeThreshold(capacity);
+        }
+        
+        private void rehash() {
+            if (mask + 1 == IntIntHashMap.MAX_CAPACITY) {
+                throw new IllegalStateException("IntLongHashMap is full at " + size + " keys");
+            }
+            int[] oldKeys = keys;
+            long[] oldValues = values;
+            allocate((mask + 1) << 1);
+            for (int i = 0; i < oldKeys.length; i++) {
+                int key = oldKeys[i];
+                if (key != FREE_KEY) {
+                    int slot = IntIntHashMap.hash(key) & mask;
+                    while (keys[slot] != FREE_KEY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = key;
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+    
+    /**
+     * Open-addressing int -> int hash map with linear probing.
+     * 
+     * Keys and values are interleaved in a single int[] (key at 2*slot,
+     * value at 2*slot + 1) so a probe touches one cache line. Capacity is a
+     * power of two and the load factor is kept at or below 3/4. Key 0 marks
+     * an empty slot, so the real key 0 is stored out of line.
+     * Values must be non-negative (they are array indices here).
+     */
+    static final class IntIntHashMap {
+        static final int NO_VALUE = -1;
+        
+        // Largest capacity whose interleaved table still fits in an int[]
+        static final int MAX_CAPACITY = 1 << 29;
+        
+        private static final int FREE_KEY = 0;
+        
+        private int[] table;
+        private int mask;
+        private int size;
+        private int resizeThreshold;
+        private int zeroKeyValue = NO_VALUE;
+        
+        IntIntHashMap(int expectedSize) {
+            allocate(capacityFor(expectedSize));
+        }
+        
+        /**
+         * Smallest power-of-two capacity that holds expectedSize keys at a
+         * load factor of at most 3/4
+         */
+        static int capacityFor(long expectedSize) {
+            long needed = Math.max(4, (expectedSize * 4 + 2) / 3);
+            if (needed > MAX_CAPACITY) {
+                throw new IllegalArgumentException("Too many keys for one table: " + expectedSize);
+            }
+            return (int) Long.highestOneBit(needed - 1) << 1;
+        }
+        
+        // Rehashing doubles the capacity once the table is 3/4 full
+        static int resizeThreshold(int capacity) {
+            return capacity - (capacity >>> 2);
+        }
+        
+        int get(int key) {
+            if (key == FREE_KEY) {
+                return zeroKeyValue;
+            }
+            int[] tab = table;
+            int slot = hash(key) & mask;
+            while (true) {
+                int k = tab[slot << 1];
+                if (k == key) {
+                    return tab[(slot << 1) + 1];
+                }
+                if (k == FREE_KEY) {
+                    return NO_VALUE;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        void put(int key, int value) {
+            if (key == FREE_KEY) {
+                if (zeroKeyValue == NO_VALUE) size++;
+                zeroKeyValue = value;
+                return;
+            }
+            int[] tab = table;
+            int slot = hash(key) & mask;
+            while (true) {
+                int k = tab[slot << 1];
+                if (k == key) {
+                    tab[(slot << 1) + 1] = value;
+                    return;
+                }
+                if (k == FREE_KEY) {
+                    tab[slot << 1] = key;
+                    tab[(slot << 1) + 1] = value;
+                    if (++size > resizeThreshold) {
+                        rehash();
+                    }
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+        
+        int size() {
+            return size;
+        }
+        
+        // Keeps the current capacity, so a reused map stops reallocating
+        void clear() {
+            Arrays.fill(table, FREE_KEY);
+            size = 0;
+            zeroKeyValue = NO_VALUE;
+        }
+        
+        private void allocate(int capacity) {
+            table = new int[capacity << 1];
+            mask = capacity - 1;
+            resizeThreshold = resizeThreshold(capacity);
+        }
+        
+        private void rehash() {
+            if (mask + 1 == MAX_CAPACITY) {
+                throw new IllegalStateException("IntIntHashMap is full at " + size + " keys");
+            }
+            int[] old = table;
+            allocate((mask + 1) << 1);
+            for (int i = 0; i < old.length; i += 2) {
+                int key = old[i];
+                if (key != FREE_KEY) {
+                    int slot = hash(key) & mask;
+                    while (table[slot << 1] != FREE_KEY) {
+                        slot = (slot + 1) & mask;
+                    }
+                    table[slot << 1] = key;
+                    table[(slot << 1) + 1] = old[i + 1];
+                }
+            }
+        }
+        
+        // Fibonacci hashing spreads sequential keys across the table
+        static int hash(int key) {
+            int h = key * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) {
+        // Test case 1
+        int[] nums1 = {2, 7, 11, 15};
+        int target1 = 9;
+        int[] result1 = twoSum(nums1, target1);
+        System.out.println("Test 1: nums = [2,7,11,15], target = 9");
+        System.out.println("Result: [" + result1[0] + "," + result1[1] + "]");
+        
+        // Test case 2
+        int[] nums2 = {3, 2, 4};
+        int target2 = 6;
+        int[] result2 = twoSum(nums2, target2);
+        System.out.println("Test 2: nums = [3,2,4], target = 6");
+        System.out.println("Result: [" + result2[0] + "," + result2[1] + "]");
+        
+        // Test case 3: zero key and duplicates
+        int[] nums3 = {0, 4, 3, 0};
+        int[] result3 = twoSum(nums3, 0);
+        System.out.println("Test 3: nums = [0,4,3,0], target = 0");
+        System.out.println("Result: [" + result3[0] + "," + result3[1] + "]");
+        
+        // Multi-query index: build once, answer many targets
+        System.out.println("\n=== Multi-query Index ===");
+        TwoSumIndex index = new TwoSumIndex(new int[]{2, 7, 11, 15, 3, 2, 4});
+        int[] targets = {9, 6, 26, 100, 9};
+        int[] answers = index.findAll(targets);
+        for (int k = 0; k < targets.length; k++) {
+            System.out.println("target = " + targets[k] + " -> ["
+                + answers[2 * k] + "," + answers[2 * k + 1] + "]");
+        }
+        
+        // Streaming: pairs are reported as the values arrive
+        System.out.println("\n=== Streaming ===");
+        StreamingTwoSum unbounded = new StreamingTwoSum(9, (j, i) -> {
+            System.out.println("Unbounded pair: [" + j + "," + i + "]");
+            return true;
+        });
+        unbounded.consume(IntStream.of(2, 4, 1, 7, 5, 3, 8, 6));
+        
+        StreamingTwoSum windowed = new StreamingTwoSum(9, 3, (j, i) -> {
+            System.out.println("Window of 3 pair: [" + j + "," + i + "]");
+            return true;
+        });
+        windowed.consume(IntStream.of(2, 4, 1, 7, 5, 3, 8, 6));
+        
+        // Performance comparison: worst case, the only pair is at the very end
+        System.out.println("\n=== Performance Comparison ===");
+        int n = 10_000_000;
+        int[] large = new int[n];
+        for (int i = 0; i < n; i++) {
+            large[i] = i * 3;
+        }
+        int target = large[n - 2] + large[n - 1];
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.nanoTime();
+            twoSumWithHashMap(large, target);
+            long boxedTime = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            twoSum(large, target);
+            long primitiveTime = System.nanoTime() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ": HashMap<Integer,Integer> "
+                + (boxedTime / 1_000_000) + "ms ("
+                + (n * 1000L / Math.max(1, boxedTime / 1_000_000)) + " elements/s), IntIntHashMap "
+                + (primitiveTime / 1_000_000) + "ms ("
+                + (n * 1000L / Math.max(1, primitiveTime / 1_000_000)) + " elements/s)");
+        }
+        
+        int cores = Runtime.getRuntime().availableProcessors();
+        for (PairMode mode : PairMode.values()) {
+            long startTime = System.nanoTime();
+            int[] pair = twoSumParallel(large, target, mode);
+            long parallelTime = System.nanoTime() - startTime;
+            System.out.println("Parallel " + mode + " on " + cores + " cores: "
+                + (parallelTime / 1_000_000) + "ms -> [" + pair[0] + "," + pair[1] + "]");
+        }
+    }
+}
@@ -0,0 +1,934 @@
+package dsa;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Valid Parentheses Problem Solution
+ *
+ * Problem: Given a string s containing just the characters '(', ')', '{', '}', '[' and ']',
+ * determine if the input string is valid. An input string is valid if:
+ * - Open brackets must be closed by the same type of brackets.
+ * - Open brackets must be closed in the correct order.
+ *
+ * Characters other than brackets are ignored, so whole documents can be
+ * checked; firstError() reports where validation failed. StreamingValidator
+ * checks input that arrives in chunks without materializing it, and
+ * Grammar configures other bracket pairs, string literals and comments.
+ *
+ * Time Complexity: O(n)
+ * Space Complexity: O(depth)
+ */
+public class ValidParentheses {
+    
+    /**
+     * Returned by firstError() when the brackets are balanced
+     */
+    public static final int VALID = -1;
+    
+    public static boolean isValid(String s) {
+        return firstError(s) == VALID;
+    }
+    
+    /**
+     * Position of the first error, or VALID:
+     * - a closer that does not match the innermost open bracket, or has none
+     * - otherwise the outermost opener still unclosed at the end
+     */
+    public static int firstError(String s) {
+        return new Validator().firstError(s);
+    }
+    
+    /**
+     * Original approach: boxed Characters on a synchronized Stack over a copy
+     * of the input
+     */
+    public static boolean isValidWithStack(String s) {
+        Stack<Character> stack = new Stack<>();
+        
+        for (char c : s.toCharArray()) {
+            if (c == '(' || c == '[' || c == '{') {
+                stack.push(c);
+            } else {
+                if (stack.isEmpty()) return false;
+                
+                char top = stack.pop();
+                
+                if ((c == ')' && top != '(') ||
+                    (c == ']' && top != '[') ||
+                    (c == '}' && top != '{')) {
+                    return false;
+                }
+            }
+        }
+        
+        return stack.isEmpty();
+    }
+    
+    // Matching opener for a closer, or 0 if c is not a closer
+    static char openerFor(char c) {
+        switch (c) {
+            case ')': return '(';
+            case ']': return '[';
+            case '}': return '{';
+            default: return 0;
+        }
+    }
+    
+    static boolean isOpener(char c) {
+        return c == '(' || c == '[' || c == '{';
+    }
+    
+    /**
+     * Reusable validator: open brackets are kept on a char[] stack that only
+     * grows, so validating many strings with one Validator does not
+     * allocate once it has seen the deepest nesting.
+     */
+    public static final class Validator {
+        private char[] stack = new char[16];
+        
+        public boolean isValid(String s) {
+            return firstError(s) == VALID;
+        }
+        
+        public int firstError(String s) {
+            char[] open = stack;
+            int depth = 0;
+            int outermost = VALID; // Position of the bottom of the stack
+            
+            for (int i = 0, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                if (isOpener(c)) {
+                    if (depth == 0) {
+                        outermost = i;
+                    } else if (depth == open.length) {
+                        open = stack = Arrays.copyOf(open, depth * 2);
+                    }
+                    open[depth++] = c;
+                } else {
+                    char expected = openerFor(c);
+                    if (expected != 0 && (depth == 0 || open[--depth] != expected)) {
+                        return i;
+                    }
+                }
+            }
+            
+            return depth == 0 ? VALID : outermost;
+        }
+    }
+    
+    // ========== PARALLEL VALIDATION ==========
+    
+    private static final int PARALLEL_THRESHOLD = 1 << 16;
+    
+    /**
+     * Parallel firstError() (Fork/Join)
+     *
+     * Each chunk is reduced to a summary: the positions of closers it could
+     * not match (they need an opener from further left), the position of
+     * its first local mismatch, and the positions of openers still open at
+     * its end. Summaries combine associatively: the left side's open
+     * brackets are matched against the right side's unmatched closers,
+     * innermost first. The result is the same position firstError() returns.
+     */
+    public static int firstErrorParallel(String s) {
+        return firstErrorParallel(s, ForkJoinPool.commonPool());
+    }
+    
+    public static int firstErrorParallel(String s, ForkJoinPool pool) {
+        if (s.length() < PARALLEL_THRESHOLD) {
+            return firstError(s);
+        }
+        int grain = Math.max(PARALLEL_THRESHOLD / 4, s.length() / (pool.getParallelism() * 4));
+        return pool.invoke(new SummaryTask(s, 0, s.length(), grain)).firstError();
+    }
+    
+    public static boolean isValidParallel(String s) {
+        return firstErrorParallel(s) == VALID;
+    }
+    
+    /**
+     * Bracket summary of one chunk. After a mismatch the rest of the chunk
+     * is irrelevant (any error found by combining lies before it), so
+     * openers are only meaningful while error == VALID.
+     */
+    static final class Summary {
+        final int[] closers;
+        final int closerCount;
+        final int error;
+        final int[] openers;
+        final int openerCount;
+        
+        Summary(int[] closers, int closerCount, int error, int[] openers, int openerCount) {
+            this.closers = closers;
+            this.closerCount = closerCount;
+            this.error = error;
+            this.openers = openers;
+            this.openerCount = openerCount;
+        }
+        
+        static Summary of(String s, int from, int to) {
+            int[] closers = new int[8];
+            int closerCount = 0;
+            int[] openers = new int[8];
+            int openerCount = 0;
+            
+            for (int i = from; i < to; i++) {
+                char c = s.charAt(i);
+                if (isOpener(c)) {
+                    if (openerCount == openers.length) {
+                        openers = Arrays.copyOf(openers, openerCount * 2);
+                    }
+                    openers[openerCount++] = i;
+                    continue;
+                }
+                char expected = openerFor(c);
+                if (expected == 0) {
+                    continue;
+                }
+                if (openerCount == 0) {
+                    if (closerCount == closers.length) {
+                        closers = Arrays.copyOf(closers, closerCount * 2);
+                    }
+                    closers[closerCount++] = i;
+                } else if (s.charAt(openers[--openerCount]) != expected) {
+                    return new Summary(closers, closerCount, i, openers, 0);
+                }
+            }
+            return new Summary(closers, closerCount, VALID, openers, openerCount);
+        }
+        
+        static Summary combine(String s, Summary left, Summary right) {
+            if (left.error != VALID || (right.closerCount == 0 && right.error == VALID && right.openerCount == 0)) {
+                return left;
+            }
+            
+            int open = left.openerCount;
+            int matched = 0;
+            for (; matched < right.closerCount && open > 0; matched++) {
+                int closer = right.closers[matched];
+                if (s.charAt(left.openers[--open]) != openerFor(s.charAt(closer))) {
+                    return new Summary(left.closers, left.closerCount, closer, left.openers, 0);
+                }
+            }
+            
+            int[] closers = left.closers;
+            int closerCount = left.closerCount;
+            if (matched < right.closerCount) {
+                // Left ran out of openers: the rest still need one from further left
+                closerCount += right.closerCount - matched;
+                closers = Arrays.copyOf(closers, closerCount);
+                System.arraycopy(right.closers, matched, closers, left.closerCount, right.closerCount - matched);
+            }
+            if (right.error != VALID) {
+                return new Summary(closers, closerCount, right.error, left.openers, 0);
+            }
+            
+            int[] openers = left.openers;
+            int openerCount = open + right.openerCount;
+            if (right.openerCount > 0) {
+                openers = openers.length >= openerCount ? openers : Arrays.copyOf(openers, openerCount);
+                System.arraycopy(right.openers, 0, openers, open, right.openerCount);
+            }
+            return new Summary(closers, closerCount, VALID, openers, openerCount);
+        }
+        
+        int firstError() {
+            if (closerCount > 0) return closers[0];
+            if (error != VALID) return error;
+            return openerCount > 0 ? openers[0] : VALID;
+        }
+    }
+    
+    @SuppressWarnings("serial")
+    private static final class SummaryTask extends RecursiveTask<Summary> {
+        private final String s;
+        private final int from, to, grain;
+        
+        SummaryTask(String s, int from, int to, int grain) {
+            this.s = s;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+        
+        @Override
+        protected Summary compute() {
+            if (to - from <= grain) {
+                return Summary.of(s, from, to);
+            }
+            int mid = (from + to) >>> 1;
+            SummaryTask right = new SummaryTask(s, mid, to, grain);
+            right.fork();
+            Summary left = new SummaryTask(s, from, mid, grain).compute();
+            return Summary.combine(s, left, right.join());
+        }
+    }
+    
+    // ========== STREAMING VALIDATION ==========
+    
+    /**
+     * Incremental validator for input that arrives in pieces
+     * 
+     * Only the open-bracket stack is kept between chunks, so memory is
+     * bounded by the nesting depth, not the input size. Positions count
+     * chars for character input and bytes for byte input; do not mix the
+     * two in one stream. Bytes are scanned without decoding: in ASCII and
+     * UTF-8 every bracket is a single byte that never occurs inside a
+     * multi-byte sequence.
+     * 
+     * checkpoint() captures the state so a scan can later be resumed from
+     * the same input offset, e.g. after a restart.
+     */
+    public static final class StreamingValidator {
+        private static final int READ_BUFFER_SIZE = 1 << 16;
+        
+        private char[] stack;
+        private int depth;
+        private long position;
+        private long outermost = VALID;
+        private long error = VALID;
+        private char[] charScratch;
+        private byte[] byteScratch;
+        
+        public StreamingValidator() {
+            stack = new char[16];
+        }
+        
+        /**
+         * Resumes a scan from a checkpoint
+         */
+        public StreamingValidator(Checkpoint checkpoint) {
+            depth = checkpoint.stack.length;
+            stack = Arrays.copyOf(checkpoint.stack, Math.max(16, depth));
+            position = checkpoint.position;
+            outermost = checkpoint.outermost;
+            error = checkpoint.error;
+        }
+        
+        public StreamingValidator feed(char[] chunk, int offset, int length) {
+            scan(chunk, offset, offset + length);
+            return this;
+        }
+        
+        public StreamingValidator feed(byte[] chunk, int offset, int length) {
+            scan(chunk, offset, offset + length);
+            return this;
+        }
+        
+        public StreamingValidator feed(CharSequence chunk) {
+            char[] scratch = charScratch();
+            for (int from = 0, n = chunk.length(); from < n; from += scratch.length) {
+                int to = Math.min(n, from + scratch.length);
+                if (chunk instanceof String) {
+                    ((String) chunk).getChars(from, to, scratch, 0);
+                } else {
+                    for (int i = from; i < to; i++) {
+                        scratch[i - from] = chunk.charAt(i);
+                    }
+                }
+                scan(scratch, 0, to - from);
+            }
+            return this;
+        }
+        
+        /**
+         * Consumes the buffer's remaining chars
+         */
+        public StreamingValidator feed(CharBuffer chunk) {
+            if (chunk.hasArray()) {
+                int start = chunk.arrayOffset() + chunk.position();
+                scan(chunk.array(), start, start + chunk.remaining());
+                chunk.position(chunk.limit());
+                return this;
+            }
+            char[] scratch = charScratch();
+            while (chunk.hasRemaining()) {
+                int length = Math.min(scratch.length, chunk.remaining());
+                chunk.get(scratch, 0, length);
+                scan(scratch, 0, length);
+            }
+            return this;
+        }
+        
+        /**
+         * Consumes the buffer's remaining bytes (ASCII or UTF-8)
+         */
+        public StreamingValidator feed(ByteBuffer chunk) {
+            if (chunk.hasArray()) {
+                int start = chunk.arrayOffset() + chunk.position();
+                scan(chunk.array(), start, start + chunk.remaining());
+                chunk.position(chunk.limit());
+                return this;
+            }
+            byte[] scratch = byteScratch();
+            while (chunk.hasRemaining()) {
+                int length = Math.min(scratch.length, chunk.remaining());
+                chunk.get(scratch, 0, length);
+                scan(scratch, 0, length);
+            }
+            return this;
+        }
+        
+        /**
+         * Reads to the end of the reader (or the first error) and returns
+         * the number of chars consumed
+         */
+        public long consume(Reader reader) throws IOException {
+            long start = position;
+            char[] buffer = charScratch();
+            int read;
+            while (error == VALID && (read = reader.read(buffer)) >= 0) {
+                scan(buffer, 0, read);
+            }
+            return position - start;
+        }
+        
+        /**
+         * Reads to the end of the channel (or the first error) and returns
+         * the number of bytes consumed
+         */
+        public long consume(ReadableByteChannel channel) throws IOException {
+            long start = position;
+            ByteBuffer buffer = ByteBuffer.wrap(byteScratch());
+            while (error == VALID && channel.read(buffer) >= 0) {
+                buffer.flip();
+                feed(buffer);
+                buffer.clear();
+            }
+            return position - start;
+        }
+        
+        /**
+         * Chars or bytes consumed so far
+         */
+        public long position() {
+            return position;
+        }
+        
+        /**
+         * Current nesting depth
+         */
+        public int depth() {
+            return depth;
+        }
+        
+        /**
+         * True once a closer has failed to match; no later input can fix it
+         */
+        public boolean hasFailed() {
+            return error != VALID;
+        }
+        
+        /**
+         * firstError() of the input seen so far, treated as complete
+         */
+        public long firstError() {
+            if (error != VALID) return error;
+            return depth == 0 ? VALID : outermost;
+        }
+        
+        public boolean isValid() {
+            return firstError() == VALID;
+        }
+        
+        public Checkpoint checkpoint() {
+            return new Checkpoint(Arrays.copyOf(stack, depth), position, outermost, error);
+        }
+        
+        private void scan(char[] chunk, int from, int to) {
+            if (error == VALID) {
+                char[] open = stack;
+                int d = depth;
+                long base = position - from;
+                for (int i = from; i < to; i++) {
+                    char c = chunk[i];
+                    if (isOpener(c)) {
+                        if (d == 0) {
+                            outermost = base + i;
+                        } else if (d == open.length) {
+                            open = stack = Arrays.copyOf(open, d * 2);
+                        }
+                        open[d++] = c;
+                    } else {
+                        char expected = openerFor(c);
+                        if (expected != 0 && (d == 0 || open[--d] != expected)) {
+                            error = base + i;
+                            break;
+                        }
+                    }
+                }
+                depth = d;
+            }
+            position += to - from;
+        }
+        
+        private void scan(byte[] chunk, int from, int to) {
+            if (error == VALID) {
+                char[] open = stack;
+                int d = depth;
+                long base = position - from;
+                for (int i = from; i < to; i++) {
+                    char c = (char) (chunk[i] & 0xFF); // Non-ASCII bytes are never brackets
+                    if (isOpener(c)) {
+                        if (d == 0) {
+                            outermost = base + i;
+                        } else if (d == open.length) {
+                            open = stack = Arrays.copyOf(open, d * 2);
+                        }
+                        open[d++] = c;
+                    } else {
+                        char expected = openerFor(c);
+                        if (expected != 0 && (d == 0 || open[--d] != expected)) {
+                            error = base + i;
+                            break;
+                        }
+                    }
+                }
+                depth = d;
+            }
+            position += to - from;
+        }
+        
+        private char[] charScratch() {
+            if (charScratch == null) {
+                charScratch = new char[READ_BUFFER_SIZE];
+            }
+            return charScratch;
+        }
+        
+        private byte[] byteScratch() {
+            if (byteScratch == null) {
+                byteScratch = new byte[READ_BUFFER_SIZE];
+            }
+            return byteScratch;
+        }
+    }
+    
+    /**
+     * Immutable snapshot of a StreamingValidator. toByteArray() gives a
+     * compact form (brackets are ASCII, one byte each) for persisting it.
+     */
+    public static final class Checkpoint {
+        private final char[] stack;
+        private final long position;
+        private final long outermost;
+        private final long error;
+        
+        Checkpoint(char[] stack, long position, long outermost, long error) {
+            this.stack = stack;
+            this.position = position;
+            this.outermost = outermost;
+            this.error = error;
+        }
+        
+        public long position() {
+            return position;
+        }
+        
+        public byte[] toByteArray() {
+            ByteBuffer out = ByteBuffer.allocate(3 * Long.BYTES + Integer.BYTES + stack.length);
+            out.putLong(position).putLong(outermost).putLong(error).putInt(stack.length);
+            for (char c : stack) {
+                out.put((byte) c);
+            }
+            return out.array();
+        }
+        
+        public static Checkpoint fromByteArray(byte[] bytes) {
+            ByteBuffer in = ByteBuffer.wrap(bytes);
+            long position = in.getLong();
+            long outermost = in.getLong();
+            long error = in.getLong();
+            char[] stack = new char[in.getInt()];
+            for (int i = 0; i < stack.length; i++) {
+                stack[i] = (char) in.get();
+                if (!isOpener(stack[i])) {
+                    throw new IllegalArgumentException("Corrupt checkpoint");
+                }
+            }
+            return new Checkpoint(stack, position, outermost, error);
+        }
+    }
+    
+    // ========== CONFIGURABLE GRAMMAR ==========
+    
+    /**
+     * Table-driven bracket grammar
+     * 
+     * Every Latin-1 char has an entry in a 256-entry flag table (opener,
+     * closer, quote, possible comment start) and a partner table (the
+     * matching opener of a closer, the escape char of a quote), so the
+     * inner loop is one table load and a branch per char instead of a
+     * chain of comparisons. String literals and comments are skipped
+     * whole: brackets inside them are not counted. Chars above 0xFF cannot
+     * be part of the grammar and are skipped, not treated as invalid.
+     * 
+     * At the end of the input the earliest construct still open (bracket,
+     * string or block comment) is reported.
+     */
+    public static final class Grammar {
+        private static final byte OPENER = 1;
+        private static final byte CLOSER = 2;
+        private static final byte QUOTE = 4;
+        private static final byte COMMENT = 8;
+        
+        private static final int NOT_A_COMMENT = -2;
+        private static final int UNTERMINATED = -1;
+        
+        // Grammars are shared, so the open-bracket stack is kept per thread;
+        // a stack grown past MAX_KEPT_DEPTH is dropped after the call
+        private static final int MAX_KEPT_DEPTH = 1 << 16;
+        private static final ThreadLocal<char[]> OPEN_STACK = ThreadLocal.withInitial(() -> new char[64]);
+        
+        /** The problem's grammar: ()[]{} */
+        public static final Grammar BRACKETS = builder().pair('(', ')').pair('[', ']').pair('{', '}').build();
+        
+        /** Brackets outside of double-quoted strings with backslash escapes */
+        public static final Grammar JSON = builder().pair('(', ')').pair('[', ']').pair('{', '}')
+            .quote('"', '\\').build();
+        
+        /** Brackets outside of Java/C string and char literals and comments */
+        public static final Grammar JAVA = builder().pair('(', ')').pair('[', ']').pair('{', '}')
+            .quote('"', '\\').quote('\'', '\\').lineComment("//").blockComment("/*", "*/").build();
+        
+        private final byte[] flags;
+        private final char[] partner;
+        private final String[] lineComments;
+        private final String[] blockStarts;
+        private final String[] blockEnds;
+        
+        private Grammar(Builder builder) {
+            this.flags = builder.flags.clone();
+            this.partner = builder.partner.clone();
+            this.lineComments = builder.lineComments.toArray(new String[0]);
+            this.blockStarts = builder.blockStarts.toArray(new String[0]);
+            this.blockEnds = builder.blockEnds.toArray(new String[0]);
+        }
+        
+        public static Builder builder() {
+            return new Builder();
+        }
+        
+        public boolean isValid(String s) {
+            return firstError(s) == VALID;
+        }
+        
+        /**
+         * Index of the first error, or VALID. Chars above 0xFF are ignored
+         * like any other char outside the grammar, never reported as errors.
+         */
+        public int firstError(String s) {
+            byte[] flags = this.flags;
+            char[] partner = this.partner;
+            char[] open = OPEN_STACK.get();
+            int depth = 0;
+            int outermost = VALID;
+            
+            for (int i = 0, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                int f = c < 256 ? flags[c] : 0;
+                if (f == 0) {
+                    continue;
+                }
+                if ((f & COMMENT) != 0) {
+                    int end = skipComment(s, i);
+                    if (end == UNTERMINATED) {
+                        return depth > 0 ? outermost : i;
+                    }
+                    if (end != NOT_A_COMMENT) {
+                        i = end - 1;
+                        continue;
+                    }
+                }
+                if ((f & OPENER) != 0) {
+                    if (depth == 0) {
+                        outermost = i;
+                    } else if (depth == open.length) {
+                        open = Arrays.copyOf(open, depth * 2);
+                        if (open.length <= MAX_KEPT_DEPTH) {
+                            OPEN_STACK.set(open);
+                        }
+                    }
+                    open[depth++] = c;
+                } else if ((f & CLOSER) != 0) {
+                    if (depth == 0 || open[--depth] != partner[c]) {
+                        return i;
+                    }
+                } else if ((f & QUOTE) != 0) {
+                    int end = skipString(s, i + 1, c, partner[c]);
+                    if (end == UNTERMINATED) {
+                        return depth > 0 ? outermost : i;
+                    }
+                    i = end - 1;
+                }
+            }
+            
+            return depth == 0 ? VALID : outermost;
+        }
+        
+        // Index just past the closing quote, or UNTERMINATED
+        private static int skipString(String s, int from, char quote, char escape) {
+            for (int i = from, n = s.length(); i < n; i++) {
+                char c = s.charAt(i);
+                if (c == quote) {
+                    return i + 1;
+                }
+                if (c == escape) {
+                    i++;
+                }
+            }
+            return UNTERMINATED;
+        }
+        
+        // Index just past the comment starting at i, UNTERMINATED, or NOT_A_COMMENT
+        private int skipComment(String s, int i) {
+            for (String prefix : lineComments) {
+                if (s.startsWith(prefix, i)) {
+                    int newline = s.indexOf('\n', i + prefix.length());
+                    return newline < 0 ? s.length() : newline + 1;
+                }
+            }
+            for (int b = 0; b < blockStarts.length; b++) {
+                if (s.startsWith(blockStarts[b], i)) {
+                    int end = s.indexOf(blockEnds[b], i + blockStarts[b].length());
+                    return end < 0 ? UNTERMINATED : end + blockEnds[b].length();
+                }
+            }
+            return NOT_A_COMMENT;
+        }
+        
+        public static final class Builder {
+            private final byte[] flags = new byte[256];
+            private final char[] partner = new char[256];
+            private final List<String> lineComments = new ArrayList<>();
+            private final List<String> blockStarts = new ArrayList<>();
+            private final List<String> blockEnds = new ArrayList<>();
+            
+            private Builder() {
+            }
+            
+            /**
+             * Adds a bracket pair such as '<' '>'
+             */
+            public Builder pair(char open, char close) {
+                if (open == close) {
+                    throw new IllegalArgumentException("Use quote() for symmetric delimiters: " + open);
+                }
+                claim(open, OPENER);
+                claim(close, CLOSER);
+                partner[open] = close;
+                partner[close] = open;
+                return this;
+            }
+            
+            /**
+             * Adds a string delimiter. Inside the string, escape skips the next
+             * char; pass the quote itself for no escape.
+             */
+            public Builder quote(char quote, char escape) {
+                claim(quote, QUOTE);
+                partner[quote] = escape;
+                return this;
+            }
+            
+            /**
+             * Adds a comment that runs from prefix to the end of the line
+             */
+            public Builder lineComment(String prefix) {
+                flags[latin1(prefix.charAt(0))] |= COMMENT;
+                lineComments.add(prefix);
+                return this;
+            }
+            
+            public Builder blockComment(String start, String end) {
+                if (end.isEmpty()) {
+                    throw new IllegalArgumentException("Block comment end must not be empty");
+                }
+                flags[latin1(start.charAt(0))] |= COMMENT;
+                blockStarts.add(start);
+                blockEnds.add(end);
+                return this;
+            }
+            
+            public Grammar build() {
+                return new Grammar(this);
+            }
+            
+            private void claim(char c, byte role) {
+                if ((flags[latin1(c)] & (OPENER | CLOSER | QUOTE)) != 0) {
+                    throw new IllegalArgumentException("Delimiter already used: " + c);
+                }
+                flags[c] |= role;
+            }
+            
+            private static char latin1(char c) {
+                if (c >= 256) {
+                    throw new IllegalArgumentException("Delimiters must be Latin-1 characters: " + c);
+                }
+                return c;
+            }
+        }
+    }
+    
+    // Main method for testing
+    public static void main(String[] args) throws IOException {
+        // Test cases
+        String[] testCases = {
+            "()",           // true
+            "()[]{}",       // true
+            "(]",           // false
+            "([)]",         // false
+            "{[]}",         // true
+            "(((",          // false
+            ")))",          // false
+            "",             // true
+            "({[]})"        // true
+        };
+        
+        for (String test : testCases) {
+            boolean result = isValid(test);
+            System.out.println("Input: \"" + test + "\" -> " + result);
+        }
+        
+        System.out.println("\n=== First Error Position ===");
+        String[] documents = {
+            "{\"a\": [1, 2, {\"b\": (3)}]}",
+            "{\"a\": [1, 2}",
+            "f(x)) + g(y)",
+            "{ open [ never ( closed"
+        };
+        for (String doc : documents) {
+            System.out.println("\"" + doc + "\" -> " + firstError(doc));
+        }
+        
+        // Performance: multi-MB document
+        System.out.println("\n=== Performance Comparison ===");
+        StringBuilder sb = new StringBuilder();
+        java.util.Random random = new java.util.Random(42);
+        while (sb.length() < 8_000_000) {
+            int depth = 1 + random.nextInt(20);
+            for (int d = 0; d < depth; d++) sb.append("{\"k\": [");
+            for (int d = 0; d < depth; d++) sb.append("1, (2)]}");
+        }
+        String big = sb.toString();
+        // The original accepts brackets only, so every method checks the same bracket string
+        String bracketsOnly = big.replaceAll("[^()\\[\\]{}]", "");
+        Validator validator = new Validator();
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            boolean boxed = isValidWithStack(bracketsOnly);
+            long boxedTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            boolean primitive = validator.isValid(bracketsOnly);
+            long primitiveTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            boolean parallel = isValidParallel(bracketsOnly);
+            long parallelTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ": boxed Stack " + boxedTime + "ms, primitive "
+                + primitiveTime + "ms, parallel " + parallelTime + "ms on "
+                + ForkJoinPool.commonPool().getParallelism() + " workers, all valid: "
+                + (boxed && primitive && parallel));
+        }
+        
+        String broken = big.substring(0, big.length() / 2) + "]" + big.substring(big.length() / 2);
+        System.out.println("Stray ']' inserted at " + big.length() / 2 + ": firstError " + firstError(broken)
+            + ", parallel " + firstErrorParallel(broken));
+        
+        // Table-driven grammars
+        System.out.println("\n=== Configurable Grammar ===");
+        String source = "String s = \"((\"; // stray ) here\nchar c = '}'; /* { */ call(a[i]);";
+        System.out.println("Java source, JAVA grammar: " + Grammar.JAVA.firstError(source)
+            + ", BRACKETS grammar: " + Grammar.BRACKETS.firstError(source));
+        Grammar generics = Grammar.builder().pair('<', '>').pair('(', ')').build();
+        for (String type : new String[]{"Map<K, List<V>>", "Map<K, List<V>", "f(List<T>)>"}) {
+            System.out.println("\"" + type + "\" with <> pairs -> " + generics.firstError(type));
+        }
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.nanoTime();
+            boolean boxed = isValidWithStack(bracketsOnly);
+            long boxedTime = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            boolean hardcoded = validator.isValid(big);
+            long hardcodedTime = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            boolean table = Grammar.BRACKETS.isValid(big);
+            long tableTime = System.nanoTime() - startTime;
+            
+            startTime = System.nanoTime();
+            boolean json = Grammar.JSON.isValid(big);
+            long jsonTime = System.nanoTime() - startTime;
+            
+            System.out.println(String.format("Round %d (MB/s): boxed Stack %.0f, hardcoded %.0f, "
+                + "BRACKETS table %.0f, JSON table %.0f, all valid: %b", round + 1,
+                bracketsOnly.length() * 1e3 / boxedTime, big.length() * 1e3 / hardcodedTime,
+                big.length() * 1e3 / tableTime, big.length() * 1e3 / jsonTime, boxed && hardcoded && table && json));
+        }
+        
+        // Streaming: the file is never held as a String
+        System.out.println("\n=== Streaming Validation ===");
+        StreamingValidator chunks = new StreamingValidator();
+        for (String chunk : new String[]{"{\"a\": [1, (", "2)], \"b\": ", "{}}"}) {
+            chunks.feed(chunk);
+            System.out.println("feed \"" + chunk + "\" -> depth " + chunks.depth() + ", failed " + chunks.hasFailed());
+        }
+        System.out.println("Complete input valid: " + chunks.isValid());
+        
+        Path file = Files.createTempFile("brackets", ".json");
+        Files.writeString(file, big);
+        long bytes = Files.size(file);
+        
+        for (int round = 0; round < 3; round++) {
+            long startTime = System.currentTimeMillis();
+            boolean materialized = isValid(Files.readString(file));
+            long materializedTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            StreamingValidator streaming = new StreamingValidator();
+            try (FileChannel channel = FileChannel.open(file)) {
+                streaming.consume(channel);
+            }
+            long streamingTime = System.currentTimeMillis() - startTime;
+            
+            startTime = System.currentTimeMillis();
+            StreamingValidator decoded = new StreamingValidator();
+            try (Reader reader = Files.newBufferedReader(file)) {
+                decoded.consume(reader);
+            }
+            long readerTime = System.currentTimeMillis() - startTime;
+            
+            System.out.println("Round " + (round + 1) + ": readString + isValid " + materializedTime
+                + "ms, streaming channel " + streamingTime + "ms, streaming reader " + readerTime + "ms ("
+                + bytes / (1 << 20) + " MB, all valid: " + (materialized && streaming.isValid() && decoded.isValid()) + ")");
+        }
+        
+        // Stop halfway, persist the checkpoint, resume in a new validator
+        StreamingValidator first = new StreamingValidator().feed(CharBuffer.wrap(big, 0, big.length() / 2));
+        byte[] saved = first.checkpoint().toByteArray();
+        StreamingValidator resumed = new StreamingValidator(Checkpoint.fromByteArray(saved));
+        resumed.feed(CharBuffer.wrap(big, (int) resumed.position(), big.length()));
+        System.out.println("Checkpoint at " + first.position() + " (depth " + first.depth() + ", "
+            + saved.length + " bytes) resumed -> valid: " + resumed.isValid());
+        
+        Files.delete(file);
+    }
+}
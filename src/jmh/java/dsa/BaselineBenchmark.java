@@ -0,0 +1,50 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of restoring an input with System.arraycopy, which the benchmarks
+ * of in-place algorithms pay on every operation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] pristine;
+    private int[] work;
+
+    @Setup
+    public void setup() {
+        pristine = distribution.generate(size, new Random(Inputs.SEED));
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int arraycopy() {
+        System.arraycopy(pristine, 0, work, 0, size);
+        return work[size / 2];
+    }
+}
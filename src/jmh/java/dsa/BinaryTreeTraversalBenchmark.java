@@ -0,0 +1,166 @@
+package dsa;
+
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Complete binary tree holding the distribution's values in level order.
+ * Visitor-based traversals sum into a field through one visitor created at
+ * setup, so they allocate nothing per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryTreeTraversalBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private TreeNode root;
+    private BinaryTreeTraversal.Traverser traverser;
+    private int[] out;
+    private long sum;
+    private IntConsumer summer;
+
+    @Setup
+    public void setup() {
+        root = Inputs.completeTree(distribution.generate(size, new Random(Inputs.SEED)));
+        traverser = new BinaryTreeTraversal.Traverser();
+        out = new int[size];
+        summer = value -> sum += value;
+    }
+
+    @Benchmark
+    public List<Integer> inorderTraversalRecursive() {
+        return BinaryTreeTraversal.inorderTraversalRecursive(root);
+    }
+
+    @Benchmark
+    public List<Integer> inorderTraversalIterative() {
+        return BinaryTreeTraversal.inorderTraversalIterative(root);
+    }
+
+    @Benchmark
+    public List<Integer> preorderTraversalRecursive() {
+        return BinaryTreeTraversal.preorderTraversalRecursive(root);
+    }
+
+    @Benchmark
+    public List<Integer> preorderTraversalIterative() {
+        return BinaryTreeTraversal.preorderTraversalIterative(root);
+    }
+
+    @Benchmark
+    public List<Integer> postorderTraversalRecursive() {
+        return BinaryTreeTraversal.postorderTraversalRecursive(root);
+    }
+
+    @Benchmark
+    public List<Integer> postorderTraversalIterative() {
+        return BinaryTreeTraversal.postorderTraversalIterative(root);
+    }
+
+    @Benchmark
+    public List<List<Integer>> levelOrderTraversal() {
+        return BinaryTreeTraversal.levelOrderTraversal(root);
+    }
+
+    @Benchmark
+    public int traverserInorder() {
+        return traverser.inorder(root, out);
+    }
+
+    @Benchmark
+    public int traverserPreorder() {
+        return traverser.preorder(root, out);
+    }
+
+    @Benchmark
+    public int traverserPostorder() {
+        return traverser.postorder(root, out);
+    }
+
+    @Benchmark
+    public int[] inorderParallel() {
+        return BinaryTreeTraversal.inorderParallel(root);
+    }
+
+    @Benchmark
+    public int[] preorderParallel() {
+        return BinaryTreeTraversal.preorderParallel(root);
+    }
+
+    @Benchmark
+    public int[] postorderParallel() {
+        return BinaryTreeTraversal.postorderParallel(root);
+    }
+
+    @Benchmark
+    public long reduceParallel() {
+        return BinaryTreeTraversal.reduceParallel(root, () -> new long[1], (a, value) -> a[0] += value,
+            (a, b) -> { a[0] += b[0]; return a; })[0];
+    }
+
+    @Benchmark
+    public long inorderIterator() {
+        long acc = 0;
+        for (PrimitiveIterator.OfInt it = BinaryTreeTraversal.inorderIterator(root); it.hasNext(); ) {
+            acc += it.nextInt();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int inorderStreamLimit() {
+        return BinaryTreeTraversal.inorderStream(root).limit(10).sum();
+    }
+
+    @Benchmark
+    public long preorderStreamParallel() {
+        return BinaryTreeTraversal.preorderStream(root).parallel().asLongStream().sum();
+    }
+
+    @Benchmark
+    public long levelOrderStream() {
+        return BinaryTreeTraversal.levelOrderStream(root).asLongStream().sum();
+    }
+
+    @Benchmark
+    public long morrisInorder() {
+        BinaryTreeTraversal.morrisInorder(root, summer);
+        return sum;
+    }
+
+    @Benchmark
+    public long morrisPreorder() {
+        BinaryTreeTraversal.morrisPreorder(root, summer);
+        return sum;
+    }
+
+    @Benchmark
+    public long morrisPostorder() {
+        BinaryTreeTraversal.morrisPostorder(root, summer);
+        return sum;
+    }
+}
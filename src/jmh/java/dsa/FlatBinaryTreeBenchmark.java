@@ -0,0 +1,74 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The complete trees of BinaryTreeTraversalBenchmark converted to
+ * FlatBinaryTree, traversed into a reused int[]
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlatBinaryTreeBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private TreeNode root;
+    private FlatBinaryTree tree;
+    private int[] out;
+
+    @Setup
+    public void setup() {
+        root = Inputs.completeTree(distribution.generate(size, new Random(Inputs.SEED)));
+        tree = FlatBinaryTree.fromTreeNode(root);
+        out = new int[size];
+    }
+
+    @Benchmark
+    public int[] inorder() {
+        tree.inorder(out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] preorder() {
+        tree.preorder(out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] postorder() {
+        tree.postorder(out);
+        return out;
+    }
+
+    @Benchmark
+    public int[] levelOrder() {
+        return tree.levelOrder();
+    }
+
+    @Benchmark
+    public FlatBinaryTree fromTreeNode() {
+        return FlatBinaryTree.fromTreeNode(root);
+    }
+}
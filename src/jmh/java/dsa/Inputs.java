@@ -0,0 +1,154 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Input generation shared by the benchmarks
+ *
+ * Every benchmark is parameterized by size and by one of these
+ * distributions. Array benchmarks use it for the values; the others
+ * document how they interpret it. Inputs are generated from a fixed seed
+ * so every fork measures the same data.
+ */
+public final class Inputs {
+
+    static final long SEED = 42;
+
+    public enum Distribution {
+        RANDOM, SORTED, REVERSED, FEW_UNIQUE;
+
+        int[] generate(int size, Random random) {
+            int[] values = new int[size];
+            for (int i = 0; i < size; i++) {
+                switch (this) {
+                    case RANDOM: values[i] = random.nextInt(Math.max(1, size * 4)); break;
+                    case SORTED: values[i] = i * 2; break;
+                    case REVERSED: values[i] = (size - i) * 2; break;
+                    default: values[i] = random.nextInt(8); break;
+                }
+            }
+            return values;
+        }
+    }
+
+    private Inputs() {
+    }
+
+    /**
+     * Two sorted halves; nums1 has room for the merge, work is restored from pristine
+     */
+    static final class MergeInput {
+        final int m, n;
+        final int[] pristine, work, nums2;
+
+        MergeInput(int size, Distribution d, Random random) {
+            int[] values = d.generate(size, random);
+            m = size / 2;
+            n = size - m;
+            pristine = new int[size];
+            nums2 = new int[n];
+
+            if (d == Distribution.SORTED || d == Distribution.REVERSED) {
+                Arrays.sort(values);
+                int[] low = Arrays.copyOfRange(values, 0, d == Distribution.SORTED ? m : n);
+                int[] high = Arrays.copyOfRange(values, low.length, size);
+                System.arraycopy(d == Distribution.SORTED ? low : high, 0, pristine, 0, m);
+                System.arraycopy(d == Distribution.SORTED ? high : low, 0, nums2, 0, n);
+            } else {
+                System.arraycopy(values, 0, pristine, 0, m);
+                System.arraycopy(values, m, nums2, 0, n);
+                Arrays.sort(pristine, 0, m);
+                Arrays.sort(nums2);
+            }
+            work = pristine.clone();
+        }
+
+        void restore() {
+            System.arraycopy(pristine, 0, work, 0, m);
+        }
+    }
+
+    /**
+     * Shifts values to be centred on zero, for the maximum subarray benchmarks
+     */
+    static int[] centred(int[] values) {
+        int max = 0;
+        for (int v : values) {
+            max = Math.max(max, v);
+        }
+        for (int i = 0; i < values.length; i++) {
+            values[i] -= max / 2;
+        }
+        return values;
+    }
+
+    static int[][] randomRanges(int size, int count, Random random) {
+        int[][] ranges = new int[2][count];
+        for (int q = 0; q < count; q++) {
+            int a = random.nextInt(size), b = random.nextInt(size);
+            ranges[0][q] = Math.min(a, b);
+            ranges[1][q] = Math.max(a, b);
+        }
+        return ranges;
+    }
+
+    /**
+     * Balanced bracket string: RANDOM nests randomly, SORTED is one deep
+     * nest, REVERSED is flat "()()", FEW_UNIQUE uses only round brackets
+     */
+    static String brackets(int size, Distribution d, Random random) {
+        int pairs = Math.max(1, size / 2);
+        StringBuilder sb = new StringBuilder(pairs * 2);
+        String open = d == Distribution.FEW_UNIQUE ? "(" : "([{";
+        String close = d == Distribution.FEW_UNIQUE ? ")" : ")]}";
+
+        if (d == Distribution.SORTED) {
+            for (int i = 0; i < pairs; i++) sb.append(open.charAt(i % open.length()));
+            for (int i = pairs - 1; i >= 0; i--) sb.append(close.charAt(i % close.length()));
+            return sb.toString();
+        }
+        if (d == Distribution.REVERSED) {
+            for (int i = 0; i < pairs; i++) {
+                sb.append(open.charAt(i % 3)).append(close.charAt(i % 3));
+            }
+            return sb.toString();
+        }
+
+        // Random walk that always closes what it opened
+        int[] stack = new int[pairs];
+        int depth = 0;
+        int opened = 0;
+        while (sb.length() < pairs * 2) {
+            if (opened < pairs && (depth == 0 || random.nextBoolean())) {
+                int kind = random.nextInt(open.length());
+                stack[depth++] = kind;
+                sb.append(open.charAt(kind));
+                opened++;
+            } else {
+                sb.append(close.charAt(stack[--depth]));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Complete binary tree holding the values in level order
+     */
+    static TreeNode completeTree(int[] values) {
+        if (values.length == 0) {
+            return null;
+        }
+        TreeNode[] nodes = new TreeNode[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nodes[i] = new TreeNode(values[i]);
+        }
+        for (int i = 0; 2 * i + 1 < values.length; i++) {
+            nodes[i].left = nodes[2 * i + 1];
+            if (2 * i + 2 < values.length) {
+                nodes[i].right = nodes[2 * i + 2];
+            }
+        }
+        return nodes[0];
+    }
+}
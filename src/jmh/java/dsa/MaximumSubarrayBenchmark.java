@@ -0,0 +1,85 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Values are shifted to be centred on zero. The streaming benchmarks offer
+ * every value and read the best sum after each one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaximumSubarrayBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] nums;
+    private MaximumSubarray.StreamingMaxSubarray window;
+
+    @Setup
+    public void setup() {
+        nums = Inputs.centred(distribution.generate(size, new Random(Inputs.SEED)));
+        window = new MaximumSubarray.StreamingMaxSubarray(1024);
+    }
+
+    @Benchmark
+    public int maxSubArray() {
+        return MaximumSubarray.maxSubArray(nums);
+    }
+
+    @Benchmark
+    public int[] maxSubArrayWithIndices() {
+        return MaximumSubarray.maxSubArrayWithIndices(nums);
+    }
+
+    @Benchmark
+    public long[] maxSubArrayWithIndicesLong() {
+        return MaximumSubarray.maxSubArrayWithIndicesLong(nums);
+    }
+
+    @Benchmark
+    public long[] maxSubArrayParallel() {
+        return MaximumSubarray.maxSubArrayParallel(nums);
+    }
+
+    @Benchmark
+    public long streaming() {
+        MaximumSubarray.StreamingMaxSubarray streaming = new MaximumSubarray.StreamingMaxSubarray();
+        long acc = 0;
+        for (int v : nums) {
+            streaming.offer(v);
+            acc += streaming.sum();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public long streamingWindow() {
+        long acc = 0;
+        for (int v : nums) {
+            window.offer(v);
+            acc += window.sum();
+        }
+        return acc;
+    }
+}
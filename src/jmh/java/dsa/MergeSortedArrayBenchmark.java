@@ -0,0 +1,67 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * RANDOM interleaves the halves, SORTED puts nums1 entirely before nums2,
+ * REVERSED puts nums2 entirely before nums1, FEW_UNIQUE is mostly ties.
+ * In-place merges restore nums1 first (see BaselineBenchmark).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MergeSortedArrayBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private Inputs.MergeInput in;
+
+    @Setup
+    public void setup() {
+        in = new Inputs.MergeInput(size, distribution, new Random(Inputs.SEED));
+    }
+
+    @Benchmark
+    public int[] merge() {
+        in.restore();
+        MergeSortedArray.merge(in.work, in.m, in.nums2, in.n);
+        return in.work;
+    }
+
+    @Benchmark
+    public int[] mergeWithExtraArray() {
+        return MergeSortedArray.mergeWithExtraArray(in.pristine, in.m, in.nums2, in.n);
+    }
+
+    @Benchmark
+    public int[] mergeUsingArrayCopy() {
+        in.restore();
+        MergeSortedArray.mergeUsingArrayCopy(in.work, in.m, in.nums2, in.n);
+        return in.work;
+    }
+
+    @Benchmark
+    public int[] mergeParallel() {
+        return MergeSortedArray.mergeParallel(in.pristine, in.m, in.nums2, in.n);
+    }
+}
@@ -0,0 +1,53 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sliding window of 1024 values: offer every value, then read min and max
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinMaxQueueBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] values;
+    private MinMaxQueue queue;
+
+    @Setup
+    public void setup() {
+        values = distribution.generate(size, new Random(Inputs.SEED));
+        queue = MinMaxQueue.countWindow(1024);
+    }
+
+    @Benchmark
+    public long countWindow() {
+        long acc = 0;
+        for (int v : values) {
+            queue.offer(v);
+            acc += queue.min() ^ queue.max();
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,100 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Push every value, then read the minimum and top and pop until empty.
+ * MinStack and MinStackSingleStack are built per operation, as they were
+ * designed to be; the primitive and lock-free stacks are reused.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinStackBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] values;
+    private MinStack.MinStackPrimitive primitive;
+    private MinStack.LockFreeMinStack lockFree;
+
+    @Setup
+    public void setup() {
+        values = distribution.generate(size, new Random(Inputs.SEED));
+        primitive = new MinStack.MinStackPrimitive(size);
+        lockFree = new MinStack.LockFreeMinStack();
+    }
+
+    @Benchmark
+    public long minStack() {
+        MinStack stack = new MinStack();
+        for (int v : values) {
+            stack.push(v);
+        }
+        long acc = 0;
+        while (!stack.isEmpty()) {
+            acc += stack.getMin() + stack.top();
+            stack.pop();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public long minStackSingleStack() {
+        MinStack.MinStackSingleStack stack = new MinStack.MinStackSingleStack();
+        for (int v : values) {
+            stack.push(v);
+        }
+        long acc = 0;
+        while (!stack.isEmpty()) {
+            acc += stack.getMin() + stack.top();
+            stack.pop();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public long minStackPrimitive() {
+        for (int v : values) {
+            primitive.push(v);
+        }
+        long acc = 0;
+        while (!primitive.isEmpty()) {
+            acc += primitive.getMin() + primitive.top();
+            primitive.pop();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public long lockFreeMinStack() {
+        for (int v : values) {
+            lockFree.push(v);
+        }
+        long acc = 0;
+        while (!lockFree.isEmpty()) {
+            acc += lockFree.getMin() + lockFree.pop();
+        }
+        return acc;
+    }
+}
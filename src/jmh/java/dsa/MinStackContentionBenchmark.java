@@ -0,0 +1,123 @@
+package dsa;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * push, getMin and pop on one stack shared by every benchmark thread, at
+ * 1 to 64 threads: LockFreeMinStack against MinStack behind a single lock.
+ * -t overrides the thread count for other values.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinStackContentionBenchmark {
+
+    private MinStack.LockFreeMinStack lockFree;
+    private MinStack locked;
+
+    @Setup
+    public void setup() {
+        lockFree = new MinStack.LockFreeMinStack();
+        locked = new MinStack();
+    }
+
+    @Benchmark @Threads(1)
+    public int lockFree01() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(2)
+    public int lockFree02() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(4)
+    public int lockFree04() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(8)
+    public int lockFree08() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(16)
+    public int lockFree16() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(32)
+    public int lockFree32() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(64)
+    public int lockFree64() {
+        return lockFreeOp();
+    }
+
+    @Benchmark @Threads(1)
+    public int locked01() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(2)
+    public int locked02() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(4)
+    public int locked04() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(8)
+    public int locked08() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(16)
+    public int locked16() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(32)
+    public int locked32() {
+        return lockedOp();
+    }
+
+    @Benchmark @Threads(64)
+    public int locked64() {
+        return lockedOp();
+    }
+
+    private int lockFreeOp() {
+        lockFree.push(1);
+        int min = lockFree.getMin();
+        return min + lockFree.pop();
+    }
+
+    private int lockedOp() {
+        synchronized (locked) {
+            locked.push(1);
+            int min = locked.getMin();
+            locked.pop();
+            return min;
+        }
+    }
+}
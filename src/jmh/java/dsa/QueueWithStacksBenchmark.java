@@ -0,0 +1,149 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Single-threaded cases push every value, then pop until empty; for the
+ * concurrent queues that is the uncontended cost of one hand-off. The
+ * handOff cases move size items across threads through a 1024-slot queue:
+ * one producer to one consumer for SpscQueue, two to two for the others.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QueueWithStacksBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] values;
+    private int[] drained;
+    private QueueWithStacks.RingBufferQueue ringBuffer;
+    private QueueWithStacks.SpscQueue spsc;
+    private QueueWithStacks.MpmcQueue mpmc;
+    private QueueWithStacks.ConcurrentIntQueue arrayBlocking;
+    private QueueWithStacks.SpscQueue spscHandOff;
+    private QueueWithStacks.MpmcQueue mpmcHandOff;
+    private QueueWithStacks.ConcurrentIntQueue arrayBlockingHandOff;
+    private QueueWithStacks.ConcurrentIntQueue concurrentLinked;
+
+    @Setup
+    public void setup() {
+        values = distribution.generate(size, new Random(Inputs.SEED));
+        drained = new int[size];
+        ringBuffer = new QueueWithStacks.RingBufferQueue(size);
+        spsc = new QueueWithStacks.SpscQueue(size);
+        mpmc = new QueueWithStacks.MpmcQueue(size);
+        arrayBlocking = QueueWithStacks.boxed(new ArrayBlockingQueue<>(size));
+        spscHandOff = new QueueWithStacks.SpscQueue(1024);
+        mpmcHandOff = new QueueWithStacks.MpmcQueue(1024);
+        arrayBlockingHandOff = QueueWithStacks.boxed(new ArrayBlockingQueue<>(1024));
+        concurrentLinked = QueueWithStacks.boxed(new ConcurrentLinkedQueue<>());
+    }
+
+    @Benchmark
+    public long queueWithStacks() {
+        return pushAndPop(new QueueWithStacks());
+    }
+
+    @Benchmark
+    public long incremental() {
+        return pushAndPop(new QueueWithStacks(true));
+    }
+
+    @Benchmark
+    public long ringBuffer() {
+        for (int v : values) {
+            ringBuffer.push(v);
+        }
+        long acc = 0;
+        while (!ringBuffer.empty()) {
+            acc += ringBuffer.pop();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int ringBufferBulk() {
+        ringBuffer.pushAll(values);
+        return ringBuffer.drainTo(drained);
+    }
+
+    @Benchmark
+    public long spscQueue() {
+        return fillAndDrain(spsc);
+    }
+
+    @Benchmark
+    public long mpmcQueue() {
+        return fillAndDrain(mpmc);
+    }
+
+    @Benchmark
+    public long arrayBlockingQueue() {
+        return fillAndDrain(arrayBlocking);
+    }
+
+    @Benchmark
+    public long spscQueueHandOff() throws InterruptedException {
+        return HandOff.run(spscHandOff, 1, 1, size);
+    }
+
+    @Benchmark
+    public long mpmcQueueHandOff() throws InterruptedException {
+        return HandOff.run(mpmcHandOff, 2, 2, size);
+    }
+
+    @Benchmark
+    public long arrayBlockingQueueHandOff() throws InterruptedException {
+        return HandOff.run(arrayBlockingHandOff, 2, 2, size);
+    }
+
+    @Benchmark
+    public long concurrentLinkedQueueHandOff() throws InterruptedException {
+        return HandOff.run(concurrentLinked, 2, 2, size);
+    }
+
+    private long pushAndPop(QueueWithStacks queue) {
+        for (int v : values) {
+            queue.push(v);
+        }
+        long acc = 0;
+        while (!queue.empty()) {
+            acc += queue.pop();
+        }
+        return acc;
+    }
+
+    private long fillAndDrain(QueueWithStacks.ConcurrentIntQueue queue) {
+        for (int v : values) {
+            queue.offer(v);
+        }
+        long acc = 0;
+        for (long front; (front = queue.poll()) != QueueWithStacks.ConcurrentIntQueue.EMPTY; ) {
+            acc += front;
+        }
+        return acc;
+    }
+}
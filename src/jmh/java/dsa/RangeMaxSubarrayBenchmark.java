@@ -0,0 +1,66 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Values are centred on zero; the query benchmarks answer the same 1024
+ * random ranges per operation
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RangeMaxSubarrayBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] nums;
+    private RangeMaxSubarray tree;
+    private int[][] ranges;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(Inputs.SEED);
+        nums = Inputs.centred(distribution.generate(size, random));
+        tree = new RangeMaxSubarray(nums);
+        ranges = Inputs.randomRanges(size, 1024, random);
+    }
+
+    @Benchmark
+    public RangeMaxSubarray build() {
+        return new RangeMaxSubarray(nums);
+    }
+
+    @Benchmark
+    public long query() {
+        long acc = 0;
+        for (int q = 0; q < ranges[0].length; q++) {
+            acc += tree.query(ranges[0][q], ranges[1][q]);
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public long[] queryBatch() {
+        return tree.query(ranges[0], ranges[1]);
+    }
+}
@@ -0,0 +1,52 @@
+package dsa;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Input is the distribution sorted; FEW_UNIQUE gives long runs of
+ * duplicates. The array is restored first (see BaselineBenchmark).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RemoveDuplicatesBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] pristine;
+    private int[] work;
+
+    @Setup
+    public void setup() {
+        pristine = distribution.generate(size, new Random(Inputs.SEED));
+        Arrays.sort(pristine);
+        work = new int[size];
+    }
+
+    @Benchmark
+    public int removeDuplicates() {
+        System.arraycopy(pristine, 0, work, 0, size);
+        return RemoveDuplicates.removeDuplicates(work);
+    }
+}
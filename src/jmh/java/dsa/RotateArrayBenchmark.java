@@ -0,0 +1,60 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rotation keeps the input valid, so the same array is rotated again and
+ * again without a restore
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RotateArrayBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] nums;
+
+    @Setup
+    public void setup() {
+        nums = distribution.generate(size, new Random(Inputs.SEED));
+    }
+
+    @Benchmark
+    public int[] rotateWithExtraArray() {
+        RotateArray.rotateWithExtraArray(nums, size / 3);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] rotateInPlace() {
+        RotateArray.rotateInPlace(nums, size / 3);
+        return nums;
+    }
+
+    @Benchmark
+    public int[] rotateCyclic() {
+        RotateArray.rotateCyclic(nums, size / 3);
+        return nums;
+    }
+}
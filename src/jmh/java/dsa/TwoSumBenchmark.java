@@ -0,0 +1,73 @@
+package dsa;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Target -1 has no pair (all values are non-negative), so every call
+ * scans the whole array. TwoSumIndex.find cycles through 1024 targets
+ * that do have a pair.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TwoSumBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private int[] nums;
+    private TwoSum.TwoSumIndex index;
+    private int[] targets;
+    private final int[] out = new int[2];
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(Inputs.SEED);
+        nums = distribution.generate(size, random);
+        index = new TwoSum.TwoSumIndex(nums);
+        targets = new int[1024];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = nums[random.nextInt(size)] + nums[random.nextInt(size)];
+        }
+    }
+
+    @Benchmark
+    public int[] twoSum() {
+        return TwoSum.twoSum(nums, -1);
+    }
+
+    @Benchmark
+    public int[] twoSumWithHashMap() {
+        return TwoSum.twoSumWithHashMap(nums, -1);
+    }
+
+    @Benchmark
+    public int[] twoSumParallel() {
+        return TwoSum.twoSumParallel(nums, -1, TwoSum.PairMode.FIRST_PAIR);
+    }
+
+    @Benchmark
+    public int twoSumIndexFind() {
+        return index.find(targets[next++ & 1023], out) ? out[1] : -1;
+    }
+}
@@ -0,0 +1,82 @@
+package dsa;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Balanced input from Inputs.brackets: RANDOM nests randomly, SORTED is one
+ * deep nest, REVERSED is flat "()()", FEW_UNIQUE uses only round brackets
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidParenthesesBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    @Param
+    public Inputs.Distribution distribution;
+
+    private String s;
+    private byte[] bytes;
+    private ValidParentheses.Validator validator;
+
+    @Setup
+    public void setup() {
+        s = Inputs.brackets(size, distribution, new Random(Inputs.SEED));
+        bytes = s.getBytes(StandardCharsets.US_ASCII);
+        validator = new ValidParentheses.Validator();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return ValidParentheses.isValid(s);
+    }
+
+    @Benchmark
+    public boolean isValidWithStack() {
+        return ValidParentheses.isValidWithStack(s);
+    }
+
+    @Benchmark
+    public int validator() {
+        return validator.firstError(s);
+    }
+
+    @Benchmark
+    public int firstErrorParallel() {
+        return ValidParentheses.firstErrorParallel(s);
+    }
+
+    @Benchmark
+    public int grammarBrackets() {
+        return ValidParentheses.Grammar.BRACKETS.firstError(s);
+    }
+
+    @Benchmark
+    public int grammarJava() {
+        return ValidParentheses.Grammar.JAVA.firstError(s);
+    }
+
+    @Benchmark
+    public long streamingValidatorBytes() {
+        return new ValidParentheses.StreamingValidator().feed(bytes, 0, bytes.length).firstError();
+    }
+}
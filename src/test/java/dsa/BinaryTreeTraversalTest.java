@@ -0,0 +1,279 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+class BinaryTreeTraversalTest {
+
+    private static int[] collect(BiConsumer<TreeNode, IntConsumer> traversal, TreeNode root) {
+        IntStream.Builder values = IntStream.builder();
+        traversal.accept(root, values);
+        return values.build().toArray();
+    }
+
+    private static int[] write(BiFunction<TreeNode, int[], Integer> traversal, TreeNode root, int size) {
+        // One spare slot shows that exactly size values were written
+        int[] out = new int[size + 1];
+        out[size] = -1;
+        assertEquals(size, traversal.apply(root, out));
+        assertEquals(-1, out[size]);
+        return Arrays.copyOf(out, size);
+    }
+
+    @Test
+    void iterativeAndTraverserMatchRecursive() {
+        Random random = new Random(1);
+        // Starts with a one-slot stack and is reused, so it grows along the way
+        BinaryTreeTraversal.Traverser traverser = new BinaryTreeTraversal.Traverser(1);
+        for (int trial = 0; trial < 2000; trial++) {
+            int n = random.nextInt(150);
+            TreeNode root = Trees.random(n, random);
+            int[] inorder = Trees.toArray(BinaryTreeTraversal.inorderTraversalRecursive(root));
+            int[] preorder = Trees.toArray(BinaryTreeTraversal.preorderTraversalRecursive(root));
+            int[] postorder = Trees.toArray(BinaryTreeTraversal.postorderTraversalRecursive(root));
+
+            assertArrayEquals(inorder, Trees.toArray(BinaryTreeTraversal.inorderTraversalIterative(root)));
+            assertArrayEquals(preorder, Trees.toArray(BinaryTreeTraversal.preorderTraversalIterative(root)));
+            assertArrayEquals(postorder, Trees.toArray(BinaryTreeTraversal.postorderTraversalIterative(root)));
+
+            assertArrayEquals(inorder, collect(traverser::inorder, root));
+            assertArrayEquals(preorder, collect(traverser::preorder, root));
+            assertArrayEquals(postorder, collect(traverser::postorder, root));
+
+            assertArrayEquals(inorder, write(traverser::inorder, root, n));
+            assertArrayEquals(preorder, write(traverser::preorder, root, n));
+            assertArrayEquals(postorder, write(traverser::postorder, root, n));
+        }
+    }
+
+    @Test
+    void traverserHandlesDegenerateChains() {
+        int n = 100_000;
+        BinaryTreeTraversal.Traverser traverser = new BinaryTreeTraversal.Traverser();
+
+        TreeNode left = Trees.leftChain(n);
+        assertArrayEquals(Trees.descending(n), write(traverser::inorder, left, n));
+        assertArrayEquals(Trees.ascending(n), write(traverser::preorder, left, n));
+        assertArrayEquals(Trees.descending(n), write(traverser::postorder, left, n));
+        assertArrayEquals(Trees.descending(n), Trees.toArray(BinaryTreeTraversal.inorderTraversalIterative(left)));
+        assertArrayEquals(Trees.descending(n), Trees.toArray(BinaryTreeTraversal.postorderTraversalIterative(left)));
+
+        TreeNode right = Trees.rightChain(n);
+        assertArrayEquals(Trees.ascending(n), write(traverser::inorder, right, n));
+        assertArrayEquals(Trees.ascending(n), write(traverser::preorder, right, n));
+        assertArrayEquals(Trees.descending(n), write(traverser::postorder, right, n));
+        assertArrayEquals(Trees.ascending(n), Trees.toArray(BinaryTreeTraversal.preorderTraversalIterative(right)));
+        assertArrayEquals(Trees.descending(n), Trees.toArray(BinaryTreeTraversal.postorderTraversalIterative(right)));
+    }
+
+    /**
+     * Drains a spliterator through a random mix of tryAdvance and trySplit,
+     * appending values in encounter order: what was advanced, then the
+     * split-off prefix, then the rest
+     */
+    private static void drainRandomly(Spliterator.OfInt spliterator, Random random, int splits, IntStream.Builder out) {
+        for (int k = random.nextInt(4); k > 0; k--) {
+            if (!spliterator.tryAdvance((IntConsumer) out)) {
+                return;
+            }
+        }
+        Spliterator.OfInt prefix = splits > 0 && random.nextInt(4) != 0 ? spliterator.trySplit() : null;
+        if (prefix == null) {
+            spliterator.forEachRemaining((IntConsumer) out);
+            return;
+        }
+        drainRandomly(prefix, random, splits - 1, out);
+        drainRandomly(spliterator, random, splits - 1, out);
+    }
+
+    private static void assertLazyOrder(int[] expected, Function<TreeNode, PrimitiveIterator.OfInt> iterator,
+                                        Function<TreeNode, Spliterator.OfInt> spliterator,
+                                        Function<TreeNode, IntStream> stream, TreeNode root, Random random) {
+        PrimitiveIterator.OfInt values = iterator.apply(root);
+        for (int value : expected) {
+            assertEquals(value, values.nextInt());
+        }
+        assertFalse(values.hasNext());
+
+        IntStream.Builder split = IntStream.builder();
+        drainRandomly(spliterator.apply(root), random, 12, split);
+        assertArrayEquals(expected, split.build().toArray());
+
+        assertArrayEquals(expected, stream.apply(root).toArray());
+        assertArrayEquals(expected, stream.apply(root).parallel().toArray());
+    }
+
+    @Test
+    void iteratorsSpliteratorsAndStreamsKeepTraversalOrder() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 1000; trial++) {
+            TreeNode root = Trees.random(random.nextInt(300), random);
+            assertLazyOrder(Trees.toArray(BinaryTreeTraversal.inorderTraversalRecursive(root)),
+                BinaryTreeTraversal::inorderIterator, BinaryTreeTraversal::inorderSpliterator,
+                BinaryTreeTraversal::inorderStream, root, random);
+            assertLazyOrder(Trees.toArray(BinaryTreeTraversal.preorderTraversalRecursive(root)),
+                BinaryTreeTraversal::preorderIterator, BinaryTreeTraversal::preorderSpliterator,
+                BinaryTreeTraversal::preorderStream, root, random);
+            assertLazyOrder(Trees.toArray(BinaryTreeTraversal.postorderTraversalRecursive(root)),
+                BinaryTreeTraversal::postorderIterator, BinaryTreeTraversal::postorderSpliterator,
+                BinaryTreeTraversal::postorderStream, root, random);
+            int[] levelOrder = BinaryTreeTraversal.levelOrderTraversal(root).stream()
+                .flatMapToInt(level -> level.stream().mapToInt(Integer::intValue)).toArray();
+            assertLazyOrder(levelOrder,
+                BinaryTreeTraversal::levelOrderIterator, BinaryTreeTraversal::levelOrderSpliterator,
+                BinaryTreeTraversal::levelOrderStream, root, random);
+        }
+    }
+
+    @Test
+    void iteratorsReadTheTreeOnlyAsValuesArePulled() {
+        // A value changed after the iterator was created, but before it is
+        // reached, is seen: nothing was copied up front
+        TreeNode chain = Trees.rightChain(1_000_000);
+        PrimitiveIterator.OfInt preorder = BinaryTreeTraversal.preorderIterator(chain);
+        assertEquals(0, preorder.nextInt());
+        chain.right.right.val = -2;
+        assertEquals(1, preorder.nextInt());
+        assertEquals(-2, preorder.nextInt());
+        assertArrayEquals(new int[]{0, 1, -2, 3, 4}, BinaryTreeTraversal.preorderStream(chain).limit(5).toArray());
+    }
+
+    @Test
+    void parallelStreamsHandleDegenerateChains() {
+        int n = 100_000;
+        TreeNode left = Trees.leftChain(n);
+        TreeNode right = Trees.rightChain(n);
+        assertArrayEquals(Trees.descending(n), BinaryTreeTraversal.inorderStream(left).parallel().toArray());
+        assertArrayEquals(Trees.ascending(n), BinaryTreeTraversal.preorderStream(left).parallel().toArray());
+        assertArrayEquals(Trees.descending(n), BinaryTreeTraversal.postorderStream(right).parallel().toArray());
+        assertArrayEquals(Trees.ascending(n), BinaryTreeTraversal.levelOrderStream(right).parallel().toArray());
+    }
+
+    // Values and child links in breadth-first numbering: equal exactly when
+    // the trees have the same shape and values
+    private static int[][] snapshot(TreeNode root) {
+        FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(root);
+        int[][] links = new int[3][flat.size()];
+        for (int node = 0; node < flat.size(); node++) {
+            links[0][node] = flat.value(node);
+            links[1][node] = flat.left(node);
+            links[2][node] = flat.right(node);
+        }
+        return links;
+    }
+
+    private static void assertMorrisOrders(TreeNode root, int[] inorder, int[] preorder, int[] postorder) {
+        int[][] before = snapshot(root);
+        assertArrayEquals(inorder, collect(BinaryTreeTraversal::morrisInorder, root));
+        assertArrayEquals(before, snapshot(root));
+        assertArrayEquals(preorder, collect(BinaryTreeTraversal::morrisPreorder, root));
+        assertArrayEquals(before, snapshot(root));
+        assertArrayEquals(postorder, collect(BinaryTreeTraversal::morrisPostorder, root));
+        assertArrayEquals(before, snapshot(root));
+    }
+
+    @Test
+    void morrisTraversalsMatchRecursiveAndRestoreTheTree() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 2000; trial++) {
+            TreeNode root = Trees.random(random.nextInt(150), random);
+            assertMorrisOrders(root,
+                Trees.toArray(BinaryTreeTraversal.inorderTraversalRecursive(root)),
+                Trees.toArray(BinaryTreeTraversal.preorderTraversalRecursive(root)),
+                Trees.toArray(BinaryTreeTraversal.postorderTraversalRecursive(root)));
+        }
+    }
+
+    @Test
+    void morrisTraversalsHandleDegenerateChains() {
+        int n = 100_000;
+        int[] up = Trees.ascending(n);
+        int[] down = Trees.descending(n);
+        assertMorrisOrders(Trees.leftChain(n), down, up, down);
+        assertMorrisOrders(Trees.rightChain(n), up, up, down);
+    }
+
+    private static void assertParallelOrders(TreeNode root, int[] inorder, int[] preorder, int[] postorder,
+                                             ForkJoinPool pool) {
+        assertArrayEquals(inorder, BinaryTreeTraversal.inorderParallel(root, pool));
+        assertArrayEquals(preorder, BinaryTreeTraversal.preorderParallel(root, pool));
+        assertArrayEquals(postorder, BinaryTreeTraversal.postorderParallel(root, pool));
+
+        // {count, sum, sum of squares}, order-insensitive like the reduce itself
+        long[] expected = new long[3];
+        for (int value : inorder) {
+            expected[0]++;
+            expected[1] += value;
+            expected[2] += (long) value * value;
+        }
+        long[] folded = BinaryTreeTraversal.reduceParallel(root, () -> new long[3], (a, v) -> {
+            a[0]++;
+            a[1] += v;
+            a[2] += (long) v * v;
+        }, (a, b) -> {
+            a[0] += b[0];
+            a[1] += b[1];
+            a[2] += b[2];
+            return a;
+        }, pool);
+        assertArrayEquals(expected, folded);
+    }
+
+    private static void assertParallelMatchesRecursive(TreeNode root, ForkJoinPool pool) {
+        assertParallelOrders(root,
+            Trees.toArray(BinaryTreeTraversal.inorderTraversalRecursive(root)),
+            Trees.toArray(BinaryTreeTraversal.preorderTraversalRecursive(root)),
+            Trees.toArray(BinaryTreeTraversal.postorderTraversalRecursive(root)), pool);
+    }
+
+    @Test
+    void parallelTraversalsMatchRecursive() {
+        Random random = new Random(4);
+        for (int parallelism : new int[]{1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                // Below the split threshold, including the empty tree
+                for (int trial = 0; trial < 300; trial++) {
+                    assertParallelMatchesRecursive(Trees.random(random.nextInt(300), random), pool);
+                }
+                // Above it
+                for (int trial = 0; trial < 3; trial++) {
+                    assertParallelMatchesRecursive(Trees.random(70_000 + random.nextInt(130_000), random), pool);
+                }
+                assertParallelMatchesRecursive(Trees.complete(1000), pool);
+                assertParallelMatchesRecursive(Trees.complete(150_000), pool);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void parallelTraversalsHandleDegenerateChains() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int n : new int[]{1000, 100_000}) {
+                int[] up = Trees.ascending(n);
+                int[] down = Trees.descending(n);
+                assertParallelOrders(Trees.leftChain(n), down, up, down, pool);
+                assertParallelOrders(Trees.rightChain(n), up, up, down, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class FlatBinaryTreeTest {
+
+    @Test
+    void traversalsMatchTheRecursiveTreeNodeVersions() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 2000; trial++) {
+            TreeNode root = Trees.random(random.nextInt(150), random);
+            FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(root);
+
+            assertArrayEquals(Trees.toArray(BinaryTreeTraversal.inorderTraversalRecursive(root)), flat.inorder());
+            assertArrayEquals(Trees.toArray(BinaryTreeTraversal.preorderTraversalRecursive(root)), flat.preorder());
+            assertArrayEquals(Trees.toArray(BinaryTreeTraversal.postorderTraversalRecursive(root)), flat.postorder());
+
+            List<List<Integer>> levels = BinaryTreeTraversal.levelOrderTraversal(root);
+            int[] levelStarts = flat.levelStarts();
+            assertEquals(levels.size(), flat.height());
+            assertEquals(levels.size() + 1, levelStarts.length);
+            int[] levelOrder = flat.levelOrder();
+            for (int l = 0; l < levels.size(); l++) {
+                int[] level = Arrays.copyOfRange(levelOrder, levelStarts[l], levelStarts[l + 1]);
+                assertArrayEquals(Trees.toArray(levels.get(l)), level);
+            }
+
+            assertTrue(Trees.sameShape(root, flat.toTreeNode()));
+        }
+    }
+
+    @Test
+    void childIndicesFollowBreadthFirstNumbering() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 500; trial++) {
+            FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(Trees.random(random.nextInt(100), random));
+            int expectedChild = 1;
+            for (int node = 0; node < flat.size(); node++) {
+                for (int child : new int[]{flat.left(node), flat.right(node)}) {
+                    if (child != FlatBinaryTree.NONE) {
+                        assertEquals(expectedChild++, child);
+                    }
+                }
+            }
+            assertEquals(Math.max(1, flat.size()), expectedChild);
+        }
+    }
+
+    @Test
+    void leftOnlyChain() {
+        int n = 100_000;
+        FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(Trees.leftChain(n));
+        assertEquals(n, flat.height());
+        assertArrayEquals(Trees.descending(n), flat.inorder());
+        assertArrayEquals(Trees.ascending(n), flat.preorder());
+        assertArrayEquals(Trees.descending(n), flat.postorder());
+        assertArrayEquals(Trees.ascending(n), flat.levelOrder());
+    }
+
+    @Test
+    void rightOnlyChain() {
+        int n = 100_000;
+        FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(Trees.rightChain(n));
+        assertEquals(n, flat.height());
+        assertArrayEquals(Trees.ascending(n), flat.inorder());
+        assertArrayEquals(Trees.ascending(n), flat.preorder());
+        assertArrayEquals(Trees.descending(n), flat.postorder());
+        assertArrayEquals(Trees.ascending(n), flat.levelOrder());
+    }
+
+    @Test
+    void emptyTree() {
+        FlatBinaryTree flat = FlatBinaryTree.fromTreeNode(null);
+        assertEquals(0, flat.size());
+        assertEquals(0, flat.height());
+        assertArrayEquals(new int[0], flat.inorder());
+        assertArrayEquals(new int[0], flat.preorder());
+        assertArrayEquals(new int[0], flat.postorder());
+        assertArrayEquals(new int[]{0}, flat.levelStarts());
+        assertNull(flat.toTreeNode());
+    }
+}
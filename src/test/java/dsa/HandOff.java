@@ -0,0 +1,83 @@
+package dsa;
+
+/**
+ * Cross-thread hand-off through a ConcurrentIntQueue, shared by the queue
+ * tests and benchmarks
+ */
+final class HandOff {
+
+    // Producers only push 0..items-1, so a negative value can mark the end
+    private static final int END_OF_HAND_OFF = -1;
+
+    private HandOff() {
+    }
+
+    /**
+     * Moves items values from producers threads to consumers threads and
+     * returns the elapsed nanoseconds. Throws if any value is lost or duplicated.
+     *
+     * Each consumer counts and sums what it takes in locals; once every
+     * producer is done the calling thread pushes one end marker per
+     * consumer, and the totals are checked after the join. The consumers
+     * share nothing but the queue, so the measurement is the queue's own.
+     */
+    static long run(QueueWithStacks.ConcurrentIntQueue queue, int producers, int consumers, int items)
+            throws InterruptedException {
+        long[] counts = new long[consumers];
+        long[] sums = new long[consumers];
+        Thread[] producerThreads = new Thread[producers];
+        Thread[] consumerThreads = new Thread[consumers];
+
+        for (int p = 0; p < producers; p++) {
+            int first = p;
+            producerThreads[p] = new Thread(() -> {
+                for (int i = first; i < items; i += producers) {
+                    queue.push(i);
+                }
+            });
+        }
+        for (int c = 0; c < consumers; c++) {
+            int id = c;
+            consumerThreads[c] = new Thread(() -> {
+                long count = 0;
+                long sum = 0;
+                int value;
+                while ((value = queue.pop()) != END_OF_HAND_OFF) {
+                    count++;
+                    sum += value;
+                }
+                counts[id] = count;
+                sums[id] = sum;
+            });
+        }
+
+        long startTime = System.nanoTime();
+        for (Thread thread : producerThreads) {
+            thread.start();
+        }
+        for (Thread thread : consumerThreads) {
+            thread.start();
+        }
+        for (Thread thread : producerThreads) {
+            thread.join();
+        }
+        for (int c = 0; c < consumers; c++) {
+            queue.push(END_OF_HAND_OFF);
+        }
+        for (Thread thread : consumerThreads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - startTime;
+
+        long consumed = 0;
+        long checksum = 0;
+        for (int c = 0; c < consumers; c++) {
+            consumed += counts[c];
+            checksum += sums[c];
+        }
+        if (consumed != items || checksum != (long) items * (items - 1) / 2) {
+            throw new IllegalStateException("Hand-off lost or duplicated elements");
+        }
+        return elapsed;
+    }
+}
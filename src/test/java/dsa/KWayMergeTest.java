@@ -0,0 +1,108 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class KWayMergeTest {
+
+    @TempDir
+    Path dir;
+
+    private static int[][] randomRuns(Random random) {
+        int[][] runs = new int[random.nextInt(20) + 1][];
+        for (int r = 0; r < runs.length; r++) {
+            // Some runs are empty; the narrow value range forces duplicates
+            runs[r] = new int[random.nextInt(4) == 0 ? 0 : random.nextInt(300)];
+            for (int i = 0; i < runs[r].length; i++) {
+                runs[r][i] = random.nextInt(400) - 200;
+            }
+            Arrays.sort(runs[r]);
+        }
+        return runs;
+    }
+
+    private static int[] reference(int[][] runs, boolean removeDuplicates) {
+        int[] all = Arrays.stream(runs).flatMapToInt(Arrays::stream).sorted().toArray();
+        return removeDuplicates ? Arrays.stream(all).distinct().toArray() : all;
+    }
+
+    @Test
+    void mergeArraysMatchesSortedConcatenation() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 500; trial++) {
+            int[][] runs = randomRuns(random);
+            for (boolean removeDuplicates : new boolean[]{false, true}) {
+                assertArrayEquals(reference(runs, removeDuplicates), KWayMerge.mergeArrays(runs, removeDuplicates));
+            }
+        }
+    }
+
+    @Test
+    void mergeArraysRejectsMoreIntsThanOneArrayHolds() {
+        // 2048 references to one 4 MB run: 2^31 ints, past the int range
+        int[][] runs = new int[2048][];
+        Arrays.fill(runs, new int[1 << 20]);
+        for (boolean removeDuplicates : new boolean[]{false, true}) {
+            assertThrows(IllegalArgumentException.class, () -> KWayMerge.mergeArrays(runs, removeDuplicates));
+        }
+    }
+
+    @Test
+    void mergeFilesMatchesSortedConcatenationForAnyBufferSize() throws IOException {
+        Random random = new Random(2);
+        int[] bufferSizes = {Integer.BYTES, 5, 7, 64, 4096};
+        for (int trial = 0; trial < 40; trial++) {
+            int[][] runs = randomRuns(random);
+            List<Path> files = new ArrayList<>();
+            for (int r = 0; r < runs.length; r++) {
+                files.add(write(dir.resolve("run" + r), runs[r]));
+            }
+            Path output = dir.resolve("merged");
+            int bufferBytes = bufferSizes[trial % bufferSizes.length];
+            for (boolean removeDuplicates : new boolean[]{false, true}) {
+                int[] expected = reference(runs, removeDuplicates);
+                assertEquals(expected.length, KWayMerge.mergeFiles(files, output, removeDuplicates, bufferBytes));
+                assertArrayEquals(expected, read(output));
+            }
+        }
+    }
+
+    @Test
+    void bufferSmallerThanOneIntIsRejected() throws IOException {
+        Path run = write(dir.resolve("run"), new int[]{1, 2, 3});
+        Path output = write(dir.resolve("merged"), new int[]{7});
+        assertThrows(IllegalArgumentException.class,
+            () -> KWayMerge.mergeFiles(List.of(run), output, false, Integer.BYTES - 1));
+        assertArrayEquals(new int[]{7}, read(output));
+    }
+
+    private static Path write(Path file, int[] values) throws IOException {
+        try (KWayMerge.FileSink sink = new KWayMerge.FileSink(file, 64)) {
+            for (int value : values) {
+                sink.write(value);
+            }
+        }
+        return file;
+    }
+
+    private static int[] read(Path file) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int[] values = new int[bytes.remaining() / Integer.BYTES];
+        bytes.asIntBuffer().get(values);
+        return values;
+    }
+}
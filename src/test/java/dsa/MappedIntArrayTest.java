@@ -0,0 +1,107 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class MappedIntArrayTest {
+
+    @TempDir
+    Path dir;
+
+    private MappedIntArray mapped(String name, int[] values, long length) throws IOException {
+        MappedIntArray array = MappedIntArray.create(dir.resolve(name), length);
+        for (int i = 0; i < values.length; i++) {
+            array.set(i, values[i]);
+        }
+        return array;
+    }
+
+    private static int[] toArray(MappedIntArray array, long length) {
+        int[] values = new int[(int) length];
+        for (int i = 0; i < length; i++) {
+            values[i] = array.get(i);
+        }
+        return values;
+    }
+
+    private static int[] sortedArray(Random random, int length, int bound) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(bound) - bound / 2;
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    @Test
+    void mappedOverloadsMatchTheArrayVersions() throws IOException {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 100; trial++) {
+            int m = random.nextInt(200), n = random.nextInt(200);
+            int[] nums1 = sortedArray(random, m, 50);
+            int[] nums2 = sortedArray(random, n, 50);
+            int[] merged = MergeSortedArray.mergeWithExtraArray(nums1, m, nums2, n);
+
+            try (MappedIntArray a = mapped("a.bin", nums1, m + n);
+                 MappedIntArray b = mapped("b.bin", nums2, n);
+                 MappedIntArray out = MappedIntArray.create(dir.resolve("out.bin"), m + n)) {
+                MergeSortedArray.mergeInto(a, m, b, n, out);
+                assertArrayEquals(merged, toArray(out, m + n));
+                MergeSortedArray.merge(a, m, b, n);
+                assertArrayEquals(merged, toArray(a, m + n));
+
+                int unique = RemoveDuplicates.removeDuplicates(merged);
+                assertEquals(unique, RemoveDuplicates.removeDuplicates(a));
+                assertArrayEquals(Arrays.copyOf(merged, unique), toArray(a, unique));
+            }
+
+            int[] rotated = sortedArray(random, random.nextInt(100), 1000);
+            int k = random.nextInt(3 * rotated.length + 1);
+            try (MappedIntArray r = mapped("r.bin", rotated, rotated.length)) {
+                RotateArray.rotateInPlace(r, k);
+                RotateArray.rotateInPlace(rotated, k);
+                assertArrayEquals(rotated, toArray(r, rotated.length));
+            }
+        }
+    }
+
+    @Test
+    void indicesCrossTheChunkBoundary() throws IOException {
+        // Sparse file just over one chunk (1 GiB); only the pages touched use disk
+        long boundary = MappedIntArray.CHUNK_INTS;
+        long length = boundary + 16;
+        Path file = dir.resolve("large.bin");
+        try (MappedIntArray array = MappedIntArray.create(file, length)) {
+            assertEquals(length, array.length());
+            for (long i = boundary - 16; i < length; i++) {
+                array.set(i, (int) (i - boundary));
+            }
+            assertEquals(-1, array.get(boundary - 1));
+            assertEquals(0, array.get(boundary));
+            array.swap(boundary - 1, boundary + 1);
+            assertEquals(1, array.get(boundary - 1));
+            assertEquals(-1, array.get(boundary + 1));
+            array.set(0, 42);
+        }
+        assertEquals(length * Integer.BYTES, Files.size(file));
+
+        // Reopened read-only, the writes on both sides were persisted
+        try (MappedIntArray array = MappedIntArray.open(file, false)) {
+            assertEquals(length, array.length());
+            assertEquals(42, array.get(0));
+            assertEquals(1, array.get(boundary - 1));
+            assertEquals(0, array.get(boundary));
+            assertEquals(-1, array.get(boundary + 1));
+            assertEquals(15, array.get(length - 1));
+        }
+    }
+}
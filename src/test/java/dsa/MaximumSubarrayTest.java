@@ -0,0 +1,156 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class MaximumSubarrayTest {
+
+    /**
+     * {sum, start, end} over every subarray: largest sum, then earliest
+     * end, then earliest start
+     */
+    static long[] reference(int[] nums, int from, int to) {
+        if (from == to) {
+            return new long[]{0, -1, -1};
+        }
+        long[] best = null;
+        for (int end = from; end < to; end++) {
+            long sum = 0;
+            for (int start = end; start >= from; start--) {
+                sum += nums[start];
+                if (best == null || sum > best[0] || sum == best[0] && end == best[2] + from && start - from <= best[1]) {
+                    best = new long[]{sum, start - from, end - from};
+                }
+            }
+        }
+        return best;
+    }
+
+    // Small values make equal sums, and so ties, common
+    static int[] randomArray(Random random, int length) {
+        int[] nums = new int[length];
+        for (int i = 0; i < length; i++) {
+            nums[i] = random.nextInt(7) - 3;
+        }
+        return nums;
+    }
+
+    private static long[] triple(MaximumSubarray.Segment segment) {
+        return new long[]{segment.sum(), segment.start(), segment.end()};
+    }
+
+    // Segment of nums[from, to) built through a random split tree
+    private static MaximumSubarray.Segment randomReduction(int[] nums, int from, int to, Random random) {
+        if (to - from <= 1 || random.nextInt(4) == 0) {
+            if (random.nextBoolean()) {
+                return MaximumSubarray.Segment.of(nums, from, to);
+            }
+            MaximumSubarray.Segment segment = new MaximumSubarray.Segment();
+            for (int i = from; i < to; i++) {
+                segment.accept(nums[i]);
+            }
+            return segment;
+        }
+        int mid = from + random.nextInt(to - from + 1);
+        MaximumSubarray.Segment left = randomReduction(nums, from, mid, random);
+        return left.combine(randomReduction(nums, mid, to, random));
+    }
+
+    @Test
+    void sequentialIndicesMatchReference() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 5000; trial++) {
+            int[] nums = randomArray(random, 1 + random.nextInt(40));
+            long[] expected = reference(nums, 0, nums.length);
+            assertArrayEquals(expected, MaximumSubarray.maxSubArrayWithIndicesLong(nums), Arrays.toString(nums));
+            int[] narrow = MaximumSubarray.maxSubArrayWithIndices(nums);
+            assertArrayEquals(expected, new long[]{narrow[0], narrow[1], narrow[2]});
+            assertEquals(expected[0], MaximumSubarray.maxSubArrayLong(nums));
+        }
+    }
+
+    @Test
+    void segmentTiesBreakTheSameWayUnderAnySplitTree() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 5000; trial++) {
+            int[] nums = randomArray(random, random.nextInt(40));
+            long[] expected = reference(nums, 0, nums.length);
+            for (int split = 0; split < 5; split++) {
+                MaximumSubarray.Segment segment = randomReduction(nums, 0, nums.length, random);
+                assertArrayEquals(expected, triple(segment), Arrays.toString(nums));
+                assertEquals(nums.length, segment.length());
+                assertEquals(Arrays.stream(nums).asLongStream().sum(), segment.total());
+            }
+        }
+    }
+
+    @Test
+    void parallelMatchesSequentialAboveThreshold() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 30; trial++) {
+                int[] nums = randomArray(random, 70_000 + random.nextInt(300_000));
+                long[] expected = MaximumSubarray.maxSubArrayWithIndicesLong(nums);
+                assertArrayEquals(expected, MaximumSubarray.maxSubArrayParallel(nums, pool));
+                assertArrayEquals(expected, triple(MaximumSubarray.collect(Arrays.stream(nums).parallel())));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void longVariantsDoNotOverflow() {
+        int[] nums = {Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE};
+        long twoMax = 2L * Integer.MAX_VALUE;
+        assertEquals(twoMax, MaximumSubarray.maxSubArrayLong(nums));
+        assertArrayEquals(new long[]{twoMax, 0, 1}, MaximumSubarray.maxSubArrayWithIndicesLong(nums));
+    }
+
+    private static void assertWindow(int[] stream, int from, int to, MaximumSubarray.StreamingMaxSubarray online) {
+        long[] expected = reference(stream, from, to);
+        if (from < to) {
+            expected[1] += from;
+            expected[2] += from;
+        }
+        assertArrayEquals(expected, new long[]{online.sum(), online.start(), online.end()});
+        assertEquals(to - from, online.size());
+        assertEquals(to, online.count());
+    }
+
+    @Test
+    void slidingWindowMatchesReferenceOverTheLastValues() {
+        Random random = new Random(4);
+        for (int trial = 0; trial < 300; trial++) {
+            int windowSize = 1 + random.nextInt(12);
+            int[] stream = randomArray(random, random.nextInt(200));
+            MaximumSubarray.StreamingMaxSubarray window = new MaximumSubarray.StreamingMaxSubarray(windowSize);
+            MaximumSubarray.StreamingMaxSubarray unbounded = new MaximumSubarray.StreamingMaxSubarray();
+            assertWindow(stream, 0, 0, window);
+
+            int offered = 0;
+            while (offered < stream.length) {
+                // Single offers mixed with bursts longer and shorter than the window
+                int burst = random.nextInt(3) == 0 ? Math.min(stream.length - offered, random.nextInt(2 * windowSize + 1)) : 1;
+                if (burst == 1) {
+                    window.offer(stream[offered]);
+                    unbounded.offer(stream[offered]);
+                } else {
+                    int[] values = Arrays.copyOfRange(stream, offered, offered + burst);
+                    window.offerAll(values);
+                    unbounded.offerAll(values);
+                }
+                offered += burst;
+                assertWindow(stream, Math.max(0, offered - windowSize), offered, window);
+                assertWindow(stream, 0, offered, unbounded);
+            }
+        }
+    }
+}
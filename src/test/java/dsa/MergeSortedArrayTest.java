@@ -0,0 +1,137 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class MergeSortedArrayTest {
+
+    // Sorted values drawn from [0, bound); a small bound makes ties common
+    private static int[] sortedArray(Random random, int length, int bound) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = random.nextInt(bound);
+        }
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static void assertArrayCopyMatchesMerge(int[] nums1, int[] nums2) {
+        int m = nums1.length, n = nums2.length;
+        int[] expected = Arrays.copyOf(nums1, m + n);
+        MergeSortedArray.merge(expected, m, nums2, n);
+        int[] actual = Arrays.copyOf(nums1, m + n);
+        MergeSortedArray.mergeUsingArrayCopy(actual, m, nums2, n);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void arrayCopyMergeMatchesMergeOnRandomInputs() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 20_000; trial++) {
+            // Bounds from all ties to all distinct; lengths include empty sides
+            int bound = 1 + random.nextInt(trial % 3 == 0 ? 4 : 1000);
+            assertArrayCopyMatchesMerge(sortedArray(random, random.nextInt(60), bound),
+                sortedArray(random, random.nextInt(60), bound));
+        }
+    }
+
+    @Test
+    void arrayCopyMergeMatchesMergeOnRunsLongEnoughToGallop() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 2000; trial++) {
+            // Alternating runs whose lengths straddle the gallop threshold,
+            // so the merge switches modes in both directions
+            int[] nums1 = new int[random.nextInt(400)];
+            int[] nums2 = new int[random.nextInt(400)];
+            int value = 0, i1 = 0, i2 = 0;
+            while (i1 < nums1.length || i2 < nums2.length) {
+                int run = 1 + random.nextInt(random.nextBoolean() ? 3 : 30);
+                boolean first = i2 == nums2.length || i1 < nums1.length && random.nextBoolean();
+                for (int k = 0; k < run; k++) {
+                    value += random.nextInt(3); // Repeats tie across runs too
+                    if (first && i1 < nums1.length) {
+                        nums1[i1++] = value;
+                    } else if (!first && i2 < nums2.length) {
+                        nums2[i2++] = value;
+                    }
+                }
+            }
+            assertArrayCopyMatchesMerge(nums1, nums2);
+        }
+    }
+
+    @Test
+    void arrayCopyMergeHandlesEmptySidesAndAllTies() {
+        assertArrayCopyMatchesMerge(new int[0], new int[0]);
+        assertArrayCopyMatchesMerge(new int[]{1, 2, 3}, new int[0]);
+        assertArrayCopyMatchesMerge(new int[0], new int[]{1, 2, 3});
+        int[] sevens = new int[100];
+        Arrays.fill(sevens, 7);
+        assertArrayCopyMatchesMerge(sevens, Arrays.copyOf(sevens, 37));
+        assertArrayCopyMatchesMerge(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+            new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE});
+    }
+
+    @Test
+    void arrayCopyMergeMatchesMergeForASmallDeltaIntoALargeBase() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 20; trial++) {
+            int[] base = new int[100_000 + random.nextInt(100_000)];
+            for (int i = 0; i < base.length; i++) {
+                base[i] = i * 2;
+            }
+            // Odd values fall between base values, even ones tie with them
+            int[] delta = sortedArray(random, random.nextInt(100), 2 * base.length + 2);
+            assertArrayCopyMatchesMerge(base, delta);
+            assertArrayCopyMatchesMerge(delta, base);
+        }
+    }
+
+    @Test
+    void coRankGivesTiesToNums1() {
+        Random random = new Random(4);
+        for (int trial = 0; trial < 2000; trial++) {
+            int bound = 1 + random.nextInt(trial % 2 == 0 ? 3 : 100);
+            int[] a = sortedArray(random, random.nextInt(50), bound);
+            int[] b = sortedArray(random, random.nextInt(50), bound);
+            // Walk the stable sequential merge, recording how many came from a
+            int i = 0, j = 0;
+            for (int k = 0; k <= a.length + b.length; k++) {
+                assertEquals(i, MergeSortedArray.coRank(k, a, a.length, b, b.length));
+                if (j == b.length || i < a.length && a[i] <= b[j]) {
+                    i++;
+                } else {
+                    j++;
+                }
+            }
+        }
+    }
+
+    @Test
+    void parallelMatchesExtraArrayMergeAboveThreshold() {
+        Random random = new Random(5);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 30; trial++) {
+                // Few distinct keys, so chunk boundaries land inside long runs of ties
+                int bound = trial % 2 == 0 ? 1 + random.nextInt(8) : Integer.MAX_VALUE;
+                int m = trial % 10 == 0 ? 0 : 70_000 + random.nextInt(200_000);
+                int n = trial % 10 == 5 ? 0 : (m == 0 ? 70_000 : 0) + random.nextInt(200_000);
+                int[] nums1 = sortedArray(random, m, bound);
+                int[] nums2 = sortedArray(random, n, bound);
+                int[] expected = MergeSortedArray.mergeWithExtraArray(nums1, m, nums2, n);
+                assertArrayEquals(expected, MergeSortedArray.mergeParallel(nums1, m, nums2, n, pool));
+                // And with the sides swapped
+                assertArrayEquals(expected, MergeSortedArray.mergeParallel(nums2, n, nums1, m, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
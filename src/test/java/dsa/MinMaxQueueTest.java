@@ -0,0 +1,160 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigInteger;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MinMaxQueueTest {
+
+    // Brute force: a deque of {value, timestamp}, scanned for min and max
+    private static void assertSameState(ArrayDeque<long[]> reference, MinMaxQueue queue) {
+        assertEquals(reference.size(), queue.size());
+        assertEquals(reference.isEmpty(), queue.isEmpty());
+        if (reference.isEmpty()) {
+            assertThrows(IllegalStateException.class, queue::min);
+            assertThrows(IllegalStateException.class, queue::max);
+            return;
+        }
+        long min = Long.MAX_VALUE, max = Long.MIN_VALUE;
+        for (long[] entry : reference) {
+            min = Math.min(min, entry[0]);
+            max = Math.max(max, entry[0]);
+        }
+        assertEquals(min, queue.min());
+        assertEquals(max, queue.max());
+        assertEquals(reference.peekFirst()[0], queue.peek());
+    }
+
+    private static void offer(ArrayDeque<long[]> reference, int maxSize, int value, long timestamp) {
+        if (maxSize > 0 && reference.size() == maxSize) {
+            reference.pollFirst();
+        }
+        reference.addLast(new long[]{value, timestamp});
+    }
+
+    // Exact now - timestamp >= duration, with no long arithmetic to overflow
+    private static void expire(ArrayDeque<long[]> reference, long duration, long now) {
+        while (!reference.isEmpty() && reference.peekFirst()[1] <= now
+            && BigInteger.valueOf(now).subtract(BigInteger.valueOf(reference.peekFirst()[1]))
+                .compareTo(BigInteger.valueOf(duration)) >= 0) {
+            reference.pollFirst();
+        }
+    }
+
+    @Test
+    void countWindowMatchesBruteForce() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 300; trial++) {
+            int windowSize = 1 + random.nextInt(20);
+            // Unbounded queues too, where offerAll cannot skip anything
+            int maxSize = trial % 2 == 0 ? 0 : windowSize;
+            MinMaxQueue queue = maxSize == 0 ? new MinMaxQueue() : MinMaxQueue.countWindow(windowSize);
+            ArrayDeque<long[]> reference = new ArrayDeque<>();
+            for (int op = 0; op < 2000; op++) {
+                int roll = random.nextInt(10);
+                if (roll < 5) {
+                    int value = random.nextInt(41) - 20;
+                    queue.offer(value);
+                    offer(reference, maxSize, value, 0);
+                } else if (roll < 6) {
+                    // Batches shorter and longer than the window
+                    int[] values = new int[random.nextInt(2 * windowSize + 2)];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = random.nextInt(41) - 20;
+                        offer(reference, maxSize, values[i], 0);
+                    }
+                    queue.offerAll(values);
+                } else if (roll < 9) {
+                    if (!reference.isEmpty()) {
+                        assertEquals(reference.pollFirst()[0], queue.poll());
+                    }
+                } else if (random.nextInt(20) == 0) {
+                    queue.clear();
+                    reference.clear();
+                }
+                assertSameState(reference, queue);
+            }
+        }
+    }
+
+    private static void runTimeWindow(Random random, long duration, int maxSize, long start, long maxStep) {
+        MinMaxQueue queue = MinMaxQueue.timeWindow(duration, maxSize);
+        ArrayDeque<long[]> reference = new ArrayDeque<>();
+        long time = start;
+        for (int op = 0; op < 2000; op++) {
+            int roll = random.nextInt(10);
+            if (roll < 6) {
+                // Steps of 0 give equal timestamps; clamp rather than wrap at the top
+                long step = random.nextInt(3) == 0 ? 0 : 1 + (long) (random.nextDouble() * maxStep);
+                time = time > Long.MAX_VALUE - step ? Long.MAX_VALUE : time + step;
+                int value = random.nextInt(41) - 20;
+                queue.offer(value, time);
+                expire(reference, duration, time);
+                offer(reference, maxSize, value, time);
+            } else if (roll < 8) {
+                // Clocks may be read ahead of, at or behind the latest value
+                long now = time + (long) ((random.nextDouble() - 0.5) * 2 * maxStep);
+                if (random.nextInt(10) == 0) {
+                    now = random.nextBoolean() ? Long.MAX_VALUE : Long.MIN_VALUE;
+                }
+                queue.expire(now);
+                expire(reference, duration, now);
+            } else if (!reference.isEmpty()) {
+                assertEquals(reference.pollFirst()[0], queue.poll());
+            }
+            assertSameState(reference, queue);
+        }
+    }
+
+    @Test
+    void timeWindowMatchesBruteForce() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 200; trial++) {
+            long duration = random.nextInt(50);
+            int maxSize = random.nextBoolean() ? 0 : 1 + random.nextInt(20);
+            runTimeWindow(random, duration, maxSize, random.nextInt(1000) - 500, 10);
+        }
+    }
+
+    @Test
+    void timeWindowHandlesTimestampsNearTheEndsOfLong() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 100; trial++) {
+            int maxSize = random.nextBoolean() ? 0 : 1 + random.nextInt(20);
+            // Close to Long.MAX_VALUE, so timestamps run into the top
+            runTimeWindow(random, random.nextInt(50), maxSize, Long.MAX_VALUE - 1000, 10);
+            // Spanning the whole range: now - timestamp overflows a long
+            long duration = random.nextBoolean() ? Long.MAX_VALUE - 1 : Long.MAX_VALUE / 2 + random.nextInt(1000);
+            runTimeWindow(random, duration, maxSize, Long.MIN_VALUE, Long.MAX_VALUE / 8);
+        }
+    }
+
+    @Test
+    void timeWindowRejectsUntimedOffers() {
+        MinMaxQueue queue = MinMaxQueue.timeWindow(10, 0);
+        assertThrows(IllegalStateException.class, () -> queue.offer(1));
+        assertThrows(IllegalStateException.class, () -> queue.offerAll(new int[]{1, 2}));
+        assertTrue(queue.isEmpty());
+
+        // expire is a no-op without a time window
+        MinMaxQueue untimed = MinMaxQueue.countWindow(3);
+        untimed.offerAll(new int[]{5, 1, 4, 2});
+        untimed.expire(Long.MAX_VALUE);
+        assertEquals(3, untimed.size());
+        assertEquals(1, untimed.min());
+        assertEquals(4, untimed.max());
+    }
+
+    @Test
+    void invalidWindowsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> MinMaxQueue.countWindow(0));
+        assertThrows(IllegalArgumentException.class, () -> MinMaxQueue.timeWindow(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> MinMaxQueue.timeWindow(10, -1));
+    }
+}
@@ -0,0 +1,130 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class MinStackTest {
+
+    private static void assertSameTop(MinStack expected, MinStack.MinStackPrimitive actual) {
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected.isEmpty(), actual.isEmpty());
+        if (expected.isEmpty()) {
+            assertThrows(IllegalStateException.class, actual::top);
+            assertThrows(IllegalStateException.class, actual::getMin);
+        } else {
+            assertEquals(expected.top(), actual.top());
+            assertEquals(expected.getMin(), actual.getMin());
+        }
+    }
+
+    @Test
+    void primitiveStackMatchesMinStack() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 300; trial++) {
+            MinStack expected = new MinStack();
+            // Starts at capacity 0 or 1 at times, so the first pushes grow it
+            MinStack.MinStackPrimitive actual = new MinStack.MinStackPrimitive(random.nextInt(3));
+            int pushPercent = 30 + random.nextInt(50);
+            for (int op = 0; op < 2000; op++) {
+                int roll = random.nextInt(100);
+                if (roll < pushPercent) {
+                    // Few distinct values, so duplicate minimums are common
+                    int value = random.nextInt(21) - 10;
+                    expected.push(value);
+                    actual.push(value);
+                } else if (roll < 97) {
+                    expected.pop(); // Both ignore pop on an empty stack
+                    actual.pop();
+                } else if (roll < 99) {
+                    actual.trimToSize();
+                } else {
+                    actual.ensureCapacity(random.nextInt(100));
+                }
+                assertSameTop(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    void primitiveStackGrowsTrimsAndReserves() {
+        MinStack.MinStackPrimitive stack = new MinStack.MinStackPrimitive(0);
+        for (int i = 100_000; i > 0; i--) {
+            stack.push(i);
+        }
+        assertEquals(100_000, stack.size());
+        assertEquals(1, stack.getMin());
+
+        // Trimming keeps the contents, and the stack can still grow afterwards
+        stack.trimToSize();
+        stack.push(0);
+        stack.push(5);
+        assertEquals(5, stack.top());
+        assertEquals(0, stack.getMin());
+        stack.pop();
+        stack.pop();
+        // Pushed in descending order, so every element is the minimum below it
+        while (!stack.isEmpty()) {
+            assertEquals(stack.top(), stack.getMin());
+            stack.pop();
+        }
+
+        MinStack.MinStackPrimitive reserved = new MinStack.MinStackPrimitive();
+        reserved.trimToSize();
+        reserved.ensureCapacity(50);
+        for (int i = 0; i < 60; i++) {
+            reserved.push(-i);
+        }
+        assertEquals(60, reserved.size());
+        assertEquals(-59, reserved.getMin());
+        assertThrows(IllegalArgumentException.class, () -> new MinStack.MinStackPrimitive(-1));
+    }
+
+    @Test
+    void lockFreeStackStaysConsistentUnderContention() throws InterruptedException {
+        // A sentinel minimum sits at the bottom and every thread alternates
+        // push and pop, so getMin must always see the sentinel and every
+        // pushed value must be popped exactly once
+        for (int threads : new int[]{2, 8, 32}) {
+            MinStack.LockFreeMinStack stack = new MinStack.LockFreeMinStack();
+            stack.push(Integer.MIN_VALUE);
+            AtomicLong pushedSum = new AtomicLong();
+            AtomicLong poppedSum = new AtomicLong();
+            AtomicLong badMins = new AtomicLong();
+
+            Thread[] workers = new Thread[threads];
+            for (int t = 0; t < threads; t++) {
+                workers[t] = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long pushed = 0, popped = 0;
+                    for (int i = 0; i < 50_000; i++) {
+                        int value = random.nextInt(1_000_000);
+                        stack.push(value);
+                        pushed += value;
+                        if (stack.getMin() != Integer.MIN_VALUE) {
+                            badMins.incrementAndGet();
+                        }
+                        popped += stack.pop();
+                    }
+                    pushedSum.addAndGet(pushed);
+                    poppedSum.addAndGet(popped);
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+
+            assertEquals(0, badMins.get());
+            assertEquals(pushedSum.get(), poppedSum.get());
+            assertEquals(1, stack.size());
+            assertEquals(Integer.MIN_VALUE, stack.getMin());
+            assertEquals(Integer.MIN_VALUE, stack.pop());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+
+import org.junit.jupiter.api.Test;
+
+class QueueWithStacksTest {
+
+    @Test
+    void incrementalTransferMovesABoundedNumberOfElementsPerOperation() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 200; trial++) {
+            QueueWithStacks queue = new QueueWithStacks(true);
+            ArrayDeque<Integer> reference = new ArrayDeque<>();
+            // Push-heavy, balanced and pop-heavy phases in turn
+            int pushPercent = 10 + random.nextInt(81);
+            for (int op = 0; op < 5000; op++) {
+                long before = queue.moves;
+                if (reference.isEmpty() || random.nextInt(100) < pushPercent) {
+                    queue.push(op);
+                    reference.add(op);
+                } else if (random.nextBoolean()) {
+                    assertEquals(reference.poll(), queue.pop());
+                } else {
+                    assertEquals(reference.peek(), queue.peek());
+                }
+                assertTrue(queue.moves - before <= QueueWithStacks.TRANSFER_STEPS,
+                    "moved " + (queue.moves - before) + " elements in one operation");
+                assertEquals(reference.size(), queue.size());
+            }
+        }
+    }
+
+    @Test
+    void eagerTransferMovesTheWholeInputStackAtOnce() {
+        QueueWithStacks queue = new QueueWithStacks();
+        for (int i = 0; i < 1000; i++) {
+            queue.push(i);
+        }
+        assertEquals(0, queue.pop());
+        assertEquals(1000, queue.moves);
+    }
+
+    @Test
+    void ringBufferMatchesArrayDeque() {
+        Random random = new Random(2);
+        for (int trial = 0; trial < 200; trial++) {
+            QueueWithStacks.RingBufferQueue queue = new QueueWithStacks.RingBufferQueue(1 + random.nextInt(8));
+            ArrayDeque<Integer> reference = new ArrayDeque<>();
+            int next = 0;
+            for (int op = 0; op < 2000; op++) {
+                switch (random.nextInt(5)) {
+                    case 0:
+                        queue.push(next);
+                        reference.add(next++);
+                        break;
+                    case 1: {
+                        int[] values = new int[random.nextInt(40)];
+                        for (int i = 0; i < values.length; i++) {
+                            values[i] = next;
+                            reference.add(next++);
+                        }
+                        queue.pushAll(values);
+                        break;
+                    }
+                    case 2: {
+                        int[] target = new int[random.nextInt(40)];
+                        int count = queue.drainTo(target);
+                        assertEquals(Math.min(target.length, reference.size()), count);
+                        for (int i = 0; i < count; i++) {
+                            assertEquals(reference.poll(), target[i]);
+                        }
+                        break;
+                    }
+                    default:
+                        if (!reference.isEmpty()) {
+                            assertEquals(reference.peek(), queue.peek());
+                            assertEquals(reference.poll(), queue.pop());
+                        }
+                        break;
+                }
+                assertEquals(reference.size(), queue.size());
+                assertTrue(Integer.bitCount(queue.capacity()) == 1 && queue.capacity() >= queue.size());
+            }
+            int[] rest = new int[queue.size()];
+            queue.drainTo(rest);
+            assertArrayEquals(reference.stream().mapToInt(Integer::intValue).toArray(), rest);
+        }
+    }
+
+    private static void assertFifoFullAndEmpty(QueueWithStacks.ConcurrentIntQueue queue, int capacity) {
+        for (int round = 0; round < 3; round++) {
+            assertTrue(queue.empty());
+            assertEquals(QueueWithStacks.ConcurrentIntQueue.EMPTY, queue.poll());
+            assertThrows(IllegalStateException.class, queue::peek);
+            for (int i = 0; i < capacity; i++) {
+                assertTrue(queue.offer(round * 100 + i));
+                assertEquals(i + 1, queue.size());
+            }
+            assertFalse(queue.offer(-1));
+            assertEquals(capacity, queue.size());
+            for (int i = 0; i < capacity; i++) {
+                assertEquals(round * 100 + i, queue.peek());
+                assertEquals(round * 100 + i, queue.poll());
+            }
+        }
+    }
+
+    // Random offers and polls against ArrayDeque, so head and tail lap the
+    // buffer many times
+    private static void assertMatchesDequeAcrossWrapAround(QueueWithStacks.ConcurrentIntQueue queue, int capacity,
+                                                          Random random) {
+        ArrayDeque<Integer> reference = new ArrayDeque<>();
+        int next = 0;
+        for (int op = 0; op < 20_000; op++) {
+            if (random.nextBoolean()) {
+                boolean accepted = queue.offer(next);
+                assertEquals(reference.size() < capacity, accepted);
+                if (accepted) {
+                    reference.add(next);
+                }
+                next++;
+            } else if (reference.isEmpty()) {
+                assertEquals(QueueWithStacks.ConcurrentIntQueue.EMPTY, queue.poll());
+            } else {
+                assertEquals((int) reference.peek(), queue.peek());
+                assertEquals((long) reference.poll(), queue.poll());
+            }
+            assertEquals(reference.size(), queue.size());
+        }
+    }
+
+    @Test
+    void concurrentQueuesBehaveAsBoundedFifosOnOneThread() {
+        Random random = new Random(3);
+        // Capacities round up to a power of two
+        int[][] capacities = {{1, 2}, {2, 2}, {5, 8}, {8, 8}, {100, 128}};
+        for (int[] capacity : capacities) {
+            assertFifoFullAndEmpty(new QueueWithStacks.SpscQueue(capacity[0]), capacity[1]);
+            assertFifoFullAndEmpty(new QueueWithStacks.MpmcQueue(capacity[0]), capacity[1]);
+            assertMatchesDequeAcrossWrapAround(new QueueWithStacks.SpscQueue(capacity[0]), capacity[1], random);
+            assertMatchesDequeAcrossWrapAround(new QueueWithStacks.MpmcQueue(capacity[0]), capacity[1], random);
+        }
+    }
+
+    @Test
+    void handOffDeliversEveryValueExactlyOnce() throws InterruptedException {
+        // Small queues keep both sides hitting the full and empty paths;
+        // HandOff.run throws if the counts or checksum disagree
+        for (int capacity : new int[]{2, 16, 1024}) {
+            HandOff.run(new QueueWithStacks.SpscQueue(capacity), 1, 1, 300_000);
+            HandOff.run(new QueueWithStacks.MpmcQueue(capacity), 1, 1, 300_000);
+            HandOff.run(new QueueWithStacks.MpmcQueue(capacity), 4, 4, 300_000);
+            HandOff.run(new QueueWithStacks.MpmcQueue(capacity), 3, 2, 300_000);
+            HandOff.run(QueueWithStacks.boxed(new ArrayBlockingQueue<>(capacity)), 2, 3, 100_000);
+        }
+    }
+}
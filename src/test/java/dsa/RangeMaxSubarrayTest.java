@@ -0,0 +1,106 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class RangeMaxSubarrayTest {
+
+    private static long reference(int[] nums, int left, int right) {
+        return MaximumSubarray.maxSubArrayLong(Arrays.copyOfRange(nums, left, right + 1));
+    }
+
+    private static int[] randomArray(Random random, int length, int bound) {
+        int[] nums = new int[length];
+        for (int i = 0; i < length; i++) {
+            nums[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+        return nums;
+    }
+
+    @Test
+    void queriesAndUpdatesMatchKadaneOnTheRange() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 300; trial++) {
+            int n = 1 + random.nextInt(70);
+            int[] nums = randomArray(random, n, 10);
+            RangeMaxSubarray tree = new RangeMaxSubarray(nums);
+            assertEquals(n, tree.length());
+
+            for (int op = 0; op < 200; op++) {
+                if (random.nextInt(4) == 0) {
+                    int index = random.nextInt(n);
+                    nums[index] = random.nextInt(21) - 10;
+                    tree.update(index, nums[index]);
+                }
+                int a = random.nextInt(n), b = random.nextInt(n);
+                int left = Math.min(a, b), right = Math.max(a, b);
+                assertEquals(reference(nums, left, right), tree.query(left, right));
+            }
+        }
+    }
+
+    @Test
+    void batchQueryReturnsResultsInInputOrder() {
+        Random random = new Random(2);
+        int[] nums = randomArray(random, 5000, 100);
+        RangeMaxSubarray tree = new RangeMaxSubarray(nums);
+        int[] lefts = new int[2000];
+        int[] rights = new int[2000];
+        long[] expected = new long[2000];
+        for (int q = 0; q < lefts.length; q++) {
+            int a = random.nextInt(nums.length), b = random.nextInt(nums.length);
+            lefts[q] = Math.min(a, b);
+            rights[q] = Math.max(a, b);
+            expected[q] = tree.query(lefts[q], rights[q]);
+        }
+        assertArrayEquals(expected, tree.query(lefts, rights));
+    }
+
+    @Test
+    void parallelBuildMatchesReferenceAboveThreshold() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 5; trial++) {
+                int[] nums = randomArray(random, 70_000 + random.nextInt(200_000), 1000);
+                RangeMaxSubarray tree = new RangeMaxSubarray(nums, pool);
+                assertEquals(MaximumSubarray.maxSubArrayLong(nums), tree.query(0, nums.length - 1));
+                for (int q = 0; q < 50; q++) {
+                    int a = random.nextInt(nums.length), b = random.nextInt(nums.length);
+                    int left = Math.min(a, b), right = Math.max(a, b);
+                    assertEquals(reference(nums, left, right), tree.query(left, right));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void extremeValuesDoNotOverflow() {
+        int[] nums = {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        RangeMaxSubarray tree = new RangeMaxSubarray(nums);
+        assertEquals(Integer.MIN_VALUE, tree.query(0, 2));
+        tree.update(0, Integer.MAX_VALUE);
+        tree.update(2, Integer.MAX_VALUE);
+        assertEquals(Integer.MAX_VALUE, tree.query(0, 2));
+        tree.update(1, Integer.MAX_VALUE);
+        assertEquals(3L * Integer.MAX_VALUE, tree.query(0, 2));
+    }
+
+    @Test
+    void invalidRangesAreRejected() {
+        RangeMaxSubarray tree = new RangeMaxSubarray(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.query(-1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.query(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.query(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> tree.update(3, 0));
+    }
+}
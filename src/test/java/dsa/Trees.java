@@ -0,0 +1,109 @@
+package dsa;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tree shapes shared by the traversal tests
+ */
+final class Trees {
+
+    private Trees() {
+    }
+
+    /**
+     * n nodes, each hung from a random free child slot found by a random
+     * walk down from the root, so shapes range from bushy to long and
+     * lopsided. Values are small, so duplicates are common.
+     */
+    static TreeNode random(int n, Random random) {
+        if (n == 0) {
+            return null;
+        }
+        TreeNode root = new TreeNode(random.nextInt(100));
+        for (int i = 1; i < n; i++) {
+            TreeNode node = root;
+            while (true) {
+                if (random.nextBoolean()) {
+                    if (node.left == null) {
+                        node.left = new TreeNode(random.nextInt(100));
+                        break;
+                    }
+                    node = node.left;
+                } else {
+                    if (node.right == null) {
+                        node.right = new TreeNode(random.nextInt(100));
+                        break;
+                    }
+                    node = node.right;
+                }
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Values 0..n-1 from the root down, every node the left child of the previous one
+     */
+    static TreeNode leftChain(int n) {
+        TreeNode root = null;
+        for (int i = n - 1; i >= 0; i--) {
+            root = new TreeNode(i, root, null);
+        }
+        return root;
+    }
+
+    /**
+     * Values 0..n-1 from the root down, every node the right child of the previous one
+     */
+    static TreeNode rightChain(int n) {
+        TreeNode root = null;
+        for (int i = n - 1; i >= 0; i--) {
+            root = new TreeNode(i, null, root);
+        }
+        return root;
+    }
+
+    /**
+     * n nodes filled level by level, left to right; values are the
+     * breadth-first positions 0..n-1
+     */
+    static TreeNode complete(int n) {
+        TreeNode[] nodes = new TreeNode[n];
+        for (int i = n - 1; i >= 0; i--) {
+            nodes[i] = new TreeNode(i,
+                2 * i + 1 < n ? nodes[2 * i + 1] : null,
+                2 * i + 2 < n ? nodes[2 * i + 2] : null);
+        }
+        return n == 0 ? null : nodes[0];
+    }
+
+    // Expected traversal orders of the chains: 0..n-1 and n-1..0
+    static int[] ascending(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = i;
+        }
+        return values;
+    }
+
+    static int[] descending(int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = n - 1 - i;
+        }
+        return values;
+    }
+
+    static int[] toArray(List<Integer> values) {
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    // Recursive, so only for trees of moderate height
+    static boolean sameShape(TreeNode a, TreeNode b) {
+        if (a == null || b == null) {
+            return a == b;
+        }
+        return a.val == b.val && sameShape(a.left, b.left) && sameShape(a.right, b.right);
+    }
+}
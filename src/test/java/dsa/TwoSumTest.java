@@ -0,0 +1,284 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class TwoSumTest {
+
+    // Smallest second index i with an exact pair, then the latest j < i
+    private static int[] reference(int[] nums, long target) {
+        for (int i = 1; i < nums.length; i++) {
+            for (int j = i - 1; j >= 0; j--) {
+                if ((long) nums[j] + nums[i] == target) {
+                    return new int[]{j, i};
+                }
+            }
+        }
+        return new int[]{};
+    }
+
+    private static int[] randomArray(Random random, int maxLength, int bound) {
+        int[] nums = new int[random.nextInt(maxLength + 1)];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+        return nums;
+    }
+
+    @Test
+    void indexMatchesTwoSumOnRandomArrays() {
+        Random random = new Random(1);
+        int[] out = new int[2];
+        for (int trial = 0; trial < 500; trial++) {
+            int[] nums = randomArray(random, 60, 20);
+            TwoSum.TwoSumIndex index = new TwoSum.TwoSumIndex(nums);
+            for (int target = -45; target <= 45; target++) {
+                int[] expected = reference(nums, target);
+                assertArrayEquals(expected, TwoSum.twoSum(nums, target));
+                if (index.find(target, out)) {
+                    assertArrayEquals(expected, out);
+                } else {
+                    assertArrayEquals(new int[]{}, expected);
+                }
+            }
+        }
+    }
+
+    @Test
+    void findAllMatchesFindAcrossReusedBatches() {
+        Random random = new Random(2);
+        int[] nums = randomArray(random, 200, 50);
+        TwoSum.TwoSumIndex index = new TwoSum.TwoSumIndex(nums);
+        int[] pair = new int[2];
+        for (int batch = 0; batch < 50; batch++) {
+            // Small target range, so batches repeat targets
+            int[] targets = new int[random.nextInt(300)];
+            for (int k = 0; k < targets.length; k++) {
+                targets[k] = random.nextInt(241) - 120;
+            }
+            int[] answers = index.findAll(targets);
+            for (int k = 0; k < targets.length; k++) {
+                int[] expected = index.find(targets[k], pair) ? pair.clone() : new int[]{-1, -1};
+                assertArrayEquals(expected, new int[]{answers[2 * k], answers[2 * k + 1]});
+            }
+        }
+    }
+
+    @Test
+    void indexIgnoresPairsThatOnlyMatchThroughOverflow() {
+        int[] nums = {Integer.MAX_VALUE, 1};
+        // MAX_VALUE + 1 wraps to MIN_VALUE, which twoSum accepts
+        assertArrayEquals(new int[]{0, 1}, TwoSum.twoSum(nums, Integer.MIN_VALUE));
+        assertFalse(new TwoSum.TwoSumIndex(nums).find(Integer.MIN_VALUE, new int[2]));
+    }
+
+    @Test
+    void parallelModesAgreeWithTwoSumAboveThreshold() {
+        Random random = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 40; trial++) {
+                // Even values only, so an odd target needs the one planted odd value
+                int n = 70_000 + random.nextInt(130_000);
+                int[] nums = new int[n];
+                for (int i = 0; i < n; i++) {
+                    nums[i] = random.nextInt(1 << 16) * 2;
+                }
+                int odd = random.nextInt(n);
+                nums[odd] = 2 * random.nextInt(1 << 16) + 1;
+                int target = trial % 4 == 0 ? 1 : nums[odd] + nums[random.nextInt(n)];
+
+                int[] expected = TwoSum.twoSum(nums, target);
+                int[] first = TwoSum.twoSumParallel(nums, target, TwoSum.PairMode.FIRST_PAIR, pool);
+                int[] any = TwoSum.twoSumParallel(nums, target, TwoSum.PairMode.ANY_PAIR, pool);
+                if (expected.length == 0) {
+                    assertArrayEquals(expected, first);
+                    assertArrayEquals(expected, any);
+                    continue;
+                }
+
+                assertArrayEquals(expected, first);
+
+                assertEquals(2, any.length);
+                assertTrue(any[0] < any[1]);
+                assertEquals(target, nums[any[0]] + nums[any[1]]);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelFallsBackToTwoSumBelowThreshold() {
+        Random random = new Random(4);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] nums = randomArray(random, 100, 30);
+            int target = random.nextInt(61) - 30;
+            for (TwoSum.PairMode mode : TwoSum.PairMode.values()) {
+                assertArrayEquals(TwoSum.twoSum(nums, target), TwoSum.twoSumParallel(nums, target, mode));
+            }
+        }
+    }
+
+    // Every (j, i) with j the latest partner of i less than window positions back
+    private static List<long[]> streamingReference(int[] values, int target, int window) {
+        List<long[]> pairs = new ArrayList<>();
+        for (int i = 0; i < values.length; i++) {
+            for (int j = i - 1; j >= 0 && i - j < window; j--) {
+                if (values[j] + values[i] == target) {
+                    pairs.add(new long[]{j, i});
+                    break;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    private static TwoSum.PairListener collectInto(List<long[]> pairs) {
+        return (first, second) -> pairs.add(new long[]{first, second});
+    }
+
+    private static void assertSamePairs(List<long[]> expected, List<long[]> actual) {
+        assertArrayEquals(expected.toArray(new long[0][]), actual.toArray(new long[0][]));
+    }
+
+    @Test
+    void streamingMatchesBruteForceWithAndWithoutWindow() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 500; trial++) {
+            int[] values = randomArray(random, 300, 15);
+            int target = random.nextInt(31) - 15;
+            int window = 1 + random.nextInt(20);
+
+            List<long[]> unbounded = new ArrayList<>();
+            TwoSum.StreamingTwoSum all = new TwoSum.StreamingTwoSum(target, collectInto(unbounded));
+            assertEquals(values.length, all.consume(Arrays.stream(values)));
+            assertEquals(values.length, all.count());
+            assertSamePairs(streamingReference(values, target, Integer.MAX_VALUE), unbounded);
+
+            // Offered one at a time, so eviction runs between every value
+            List<long[]> windowed = new ArrayList<>();
+            TwoSum.StreamingTwoSum recent = new TwoSum.StreamingTwoSum(target, window, collectInto(windowed));
+            for (int value : values) {
+                assertTrue(recent.offer(value));
+            }
+            assertSamePairs(streamingReference(values, target, window), windowed);
+        }
+    }
+
+    /**
+     * Hands out the bytes in reads of 1 to 7 bytes, so most ints arrive
+     * split across two reads
+     */
+    private static final class TrickleChannel implements ReadableByteChannel {
+        private final ByteBuffer data;
+        private final Random random;
+
+        TrickleChannel(byte[] bytes, Random random) {
+            this.data = ByteBuffer.wrap(bytes);
+            this.random = random;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (!data.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(Math.min(data.remaining(), dst.remaining()), 1 + random.nextInt(7));
+            ByteBuffer slice = data.slice();
+            slice.limit(length);
+            dst.put(slice);
+            data.position(data.position() + length);
+            return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    @Test
+    void channelInputReassemblesIntsSplitAcrossReads() throws IOException {
+        Random random = new Random(6);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] values = randomArray(random, 500, 1000);
+            int target = values.length > 1 ? values[0] + values[values.length - 1] : 0;
+            // Values straddling zero check the little-endian sign handling
+            ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES + 3).order(ByteOrder.LITTLE_ENDIAN);
+            for (int value : values) {
+                bytes.putInt(value);
+            }
+            int trailing = random.nextInt(4); // A partial int at the end is ignored
+            byte[] input = Arrays.copyOf(bytes.array(), values.length * Integer.BYTES + trailing);
+
+            List<long[]> pairs = new ArrayList<>();
+            TwoSum.StreamingTwoSum stream = new TwoSum.StreamingTwoSum(target, collectInto(pairs));
+            assertEquals(values.length, stream.consume(new TrickleChannel(input, random)));
+            assertSamePairs(streamingReference(values, target, Integer.MAX_VALUE), pairs);
+        }
+    }
+
+    @Test
+    void listenerCanStopTheStream() throws IOException {
+        int[] values = {1, 2, 3, 0, 4, 5, -1, 6};
+        // Target 4: pairs end at positions 2 (1+3), 4 (0+4), 6 (5-1)
+        List<long[]> pairs = new ArrayList<>();
+        TwoSum.PairListener stopAtSecond = (first, second) -> {
+            pairs.add(new long[]{first, second});
+            return pairs.size() < 2;
+        };
+
+        TwoSum.StreamingTwoSum offered = new TwoSum.StreamingTwoSum(4, stopAtSecond);
+        for (int k = 0; k < 4; k++) {
+            assertTrue(offered.offer(values[k]));
+        }
+        assertFalse(offered.offer(values[4]));
+        assertTrue(offered.isStopped());
+        assertFalse(offered.offer(values[5]));
+        assertEquals(5, offered.count());
+        assertSamePairs(List.of(new long[]{0, 2}, new long[]{3, 4}), pairs);
+
+        // The bulk inputs stop at the same element and report what they consumed
+        pairs.clear();
+        TwoSum.StreamingTwoSum streamed = new TwoSum.StreamingTwoSum(4, 8, stopAtSecond);
+        assertEquals(5, streamed.consume(Arrays.stream(values)));
+        assertTrue(streamed.isStopped());
+        assertEquals(0, streamed.consume(Arrays.stream(values)));
+
+        pairs.clear();
+        ByteBuffer bytes = ByteBuffer.allocate(values.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int value : values) {
+            bytes.putInt(value);
+        }
+        TwoSum.StreamingTwoSum read = new TwoSum.StreamingTwoSum(4, stopAtSecond);
+        assertEquals(5, read.consume(new TrickleChannel(bytes.array(), new Random(7))));
+        assertEquals(2, pairs.size());
+    }
+
+    @Test
+    void streamingRejectsNonPositiveWindows() {
+        TwoSum.PairListener ignore = (first, second) -> true;
+        assertThrows(IllegalArgumentException.class, () -> new TwoSum.StreamingTwoSum(0, 0, ignore));
+        assertThrows(IllegalArgumentException.class, () -> new TwoSum.StreamingTwoSum(0, -5, ignore));
+    }
+}
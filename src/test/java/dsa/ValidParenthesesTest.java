@@ -0,0 +1,257 @@
+package dsa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+class ValidParenthesesTest {
+
+    private static final String OPEN = "([{";
+    private static final String CLOSE = ")]}";
+
+    /**
+     * Balanced brackets mixed with other chars, then up to three random
+     * edits (replace, insert or delete a char) so most inputs have errors
+     * at random positions.
+     */
+    static String randomDocument(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 4);
+        StringBuilder open = new StringBuilder();
+        while (sb.length() < length) {
+            int roll = random.nextInt(8);
+            if (roll < 3 || open.length() == 0 && roll < 6) {
+                int kind = random.nextInt(3);
+                open.append(CLOSE.charAt(kind));
+                sb.append(OPEN.charAt(kind));
+            } else if (roll < 6) {
+                sb.append(open.charAt(open.length() - 1));
+                open.setLength(open.length() - 1);
+            } else {
+                sb.append('x');
+            }
+        }
+        sb.append(open.reverse());
+        for (int edits = random.nextInt(4); edits > 0 && sb.length() > 0; edits--) {
+            int at = random.nextInt(sb.length());
+            char c = "()[]{}x".charAt(random.nextInt(7));
+            switch (random.nextInt(3)) {
+                case 0: sb.setCharAt(at, c); break;
+                case 1: sb.insert(at, c); break;
+                default: sb.deleteCharAt(at); break;
+            }
+        }
+        return sb.toString();
+    }
+
+    // Summary of s[from, to) through a random split tree
+    private static ValidParentheses.Summary randomReduction(String s, int from, int to, Random random) {
+        if (to - from <= 1 || random.nextInt(4) == 0) {
+            return ValidParentheses.Summary.of(s, from, to);
+        }
+        int mid = from + random.nextInt(to - from + 1);
+        ValidParentheses.Summary left = randomReduction(s, from, mid, random);
+        ValidParentheses.Summary right = randomReduction(s, mid, to, random);
+        return ValidParentheses.Summary.combine(s, left, right);
+    }
+
+    @Test
+    void summaryCombineMatchesFirstErrorForAnySplit() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 5000; trial++) {
+            String s = randomDocument(random, random.nextInt(60));
+            int expected = ValidParentheses.firstError(s);
+            for (int split = 0; split < 5; split++) {
+                assertEquals(expected, randomReduction(s, 0, s.length(), random).firstError(), s);
+            }
+        }
+    }
+
+    @Test
+    void parallelMatchesSequentialAboveThreshold() {
+        Random random = new Random(2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 40; trial++) {
+                String s = randomDocument(random, 70_000 + random.nextInt(300_000));
+                assertEquals(ValidParentheses.firstError(s), ValidParentheses.firstErrorParallel(s, pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void firstErrorAgreesWithStackReference() {
+        Random random = new Random(3);
+        ValidParentheses.Validator validator = new ValidParentheses.Validator();
+        for (int trial = 0; trial < 5000; trial++) {
+            String s = randomDocument(random, random.nextInt(40)).replace("x", "");
+            assertEquals(ValidParentheses.isValidWithStack(s), ValidParentheses.isValid(s), s);
+            assertEquals(ValidParentheses.firstError(s), validator.firstError(s), s);
+        }
+    }
+
+    @Test
+    void streamingMatchesFirstErrorForAnyChunkingAndFeed() {
+        Random random = new Random(4);
+        for (int trial = 0; trial < 3000; trial++) {
+            String s = randomDocument(random, random.nextInt(200));
+            char[] chars = s.toCharArray();
+            byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+            int checkpointAt = random.nextInt(s.length() + 1);
+
+            ValidParentheses.StreamingValidator validator = new ValidParentheses.StreamingValidator();
+            int from = 0;
+            boolean resumed = false;
+            while (from < s.length()) {
+                int to = Math.min(s.length(), from + 1 + random.nextInt(20));
+                if (!resumed && to > checkpointAt) {
+                    to = Math.max(from + 1, checkpointAt);
+                }
+                switch (random.nextInt(6)) {
+                    case 0: validator.feed(chars, from, to - from); break;
+                    case 1: validator.feed(bytes, from, to - from); break;
+                    case 2: validator.feed(s.substring(from, to)); break;
+                    case 3: validator.feed(CharBuffer.wrap(chars, from, to - from)); break;
+                    case 4: validator.feed(ByteBuffer.wrap(bytes, from, to - from)); break;
+                    default: validator.feed(ByteBuffer.allocateDirect(to - from).put(bytes, from, to - from).flip()); break;
+                }
+                from = to;
+                if (!resumed && from >= checkpointAt) {
+                    // Persist and restore, as after a restart
+                    byte[] saved = validator.checkpoint().toByteArray();
+                    validator = new ValidParentheses.StreamingValidator(
+                        ValidParentheses.Checkpoint.fromByteArray(saved));
+                    resumed = true;
+                }
+            }
+            assertEquals(s.length(), validator.position());
+            assertEquals(ValidParentheses.firstError(s), validator.firstError(), s);
+        }
+    }
+
+    @Test
+    void consumeReadsReadersAndChannels() throws IOException {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 20; trial++) {
+            String s = randomDocument(random, random.nextInt(200_000));
+            long expected = ValidParentheses.firstError(s);
+
+            ValidParentheses.StreamingValidator fromReader = new ValidParentheses.StreamingValidator();
+            fromReader.consume(new StringReader(s));
+            assertEquals(expected, fromReader.firstError());
+
+            ValidParentheses.StreamingValidator fromChannel = new ValidParentheses.StreamingValidator();
+            fromChannel.consume(Channels.newChannel(new ByteArrayInputStream(s.getBytes(StandardCharsets.US_ASCII))));
+            assertEquals(expected, fromChannel.firstError());
+        }
+    }
+
+    @Test
+    void utf8BytePositionsSkipMultiByteChars() {
+        Random random = new Random(6);
+        for (int trial = 0; trial < 500; trial++) {
+            String s = randomDocument(random, random.nextInt(100)).replace('x', '\u00e9').replace("((", "(\u4e2d(");
+            byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+            int error = ValidParentheses.firstError(s);
+            long expected = error == ValidParentheses.VALID
+                ? ValidParentheses.VALID
+                : s.substring(0, error).getBytes(StandardCharsets.UTF_8).length;
+
+            ValidParentheses.StreamingValidator validator = new ValidParentheses.StreamingValidator();
+            for (int from = 0; from < utf8.length; ) {
+                // Chunk boundaries may split multi-byte sequences
+                int length = Math.min(utf8.length - from, 1 + random.nextInt(7));
+                validator.feed(utf8, from, length);
+                from += length;
+            }
+            assertEquals(expected, validator.firstError(), s);
+        }
+    }
+
+    @Test
+    void bracketsGrammarMatchesFirstError() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 5000; trial++) {
+            String s = randomDocument(random, random.nextInt(100));
+            if (random.nextBoolean()) {
+                s = s.replace('x', '中');
+            }
+            assertEquals(ValidParentheses.firstError(s), ValidParentheses.Grammar.BRACKETS.firstError(s), s);
+        }
+        // Deep enough to grow the per-thread stack past the size it keeps
+        String deep = "(".repeat(200_000) + ")".repeat(200_000);
+        assertEquals(ValidParentheses.VALID, ValidParentheses.Grammar.BRACKETS.firstError(deep));
+        assertEquals(400_000, ValidParentheses.Grammar.BRACKETS.firstError(deep + "]"));
+        assertEquals(2, ValidParentheses.Grammar.BRACKETS.firstError("([}"));
+    }
+
+    @Test
+    void quotesSkipBracketsAndHonourEscapes() {
+        ValidParentheses.Grammar json = ValidParentheses.Grammar.JSON;
+        assertEquals(ValidParentheses.VALID, json.firstError("{\"a)\": [\"]}\"]}"));
+        assertEquals(ValidParentheses.VALID, json.firstError("{\"a\\\"]\": [1]}"));
+        // An escaped backslash does not escape the quote after it
+        assertEquals(ValidParentheses.VALID, json.firstError("[\"\\\\\"]"));
+        assertEquals(6, json.firstError("[\"\\\\\"]]"));
+
+        // No escape char: a backslash is ordinary
+        ValidParentheses.Grammar plain = ValidParentheses.Grammar.builder().pair('(', ')').quote('`', '`').build();
+        assertEquals(ValidParentheses.VALID, plain.firstError("(`\\`)"));
+        assertEquals(ValidParentheses.VALID, plain.firstError("(``)"));
+        assertEquals(0, plain.firstError("(`)"));
+    }
+
+    @Test
+    void commentsSkipBracketsAndQuotes() {
+        ValidParentheses.Grammar java = ValidParentheses.Grammar.JAVA;
+        assertEquals(ValidParentheses.VALID, java.firstError("f(x); // ) \" '\ng(y);"));
+        assertEquals(ValidParentheses.VALID, java.firstError("f(x) // ("));
+        assertEquals(10, java.firstError("f(x) // )\n)"));
+        assertEquals(ValidParentheses.VALID, java.firstError("a /* ( \" */ (b)"));
+        assertEquals(10, java.firstError("a /* ( */ )"));
+        // A comment opener inside a literal is part of the literal
+        assertEquals(ValidParentheses.VALID, java.firstError("s(\"/* \", '/', \"//\")"));
+        // A lone '/' starts no comment
+        assertEquals(ValidParentheses.VALID, java.firstError("a / (b)"));
+        assertEquals(ValidParentheses.VALID, java.firstError("c('\\'', ')')"));
+    }
+
+    @Test
+    void unterminatedStringsAndCommentsReportTheirStartOrTheOutermostBracket() {
+        ValidParentheses.Grammar java = ValidParentheses.Grammar.JAVA;
+        assertEquals(2, java.firstError("x \"abc"));
+        assertEquals(2, java.firstError("x \"ab\\\""));
+        assertEquals(3, java.firstError("() '("));
+        assertEquals(12, java.firstError("x /* abc */ /* ("));
+        // Inside brackets, the earliest open construct is the outermost bracket
+        assertEquals(1, java.firstError(" [x, \"ab"));
+        assertEquals(0, java.firstError("{ f(/* )"));
+        assertEquals(0, ValidParentheses.Grammar.JSON.firstError("[\"\\\"]"));
+    }
+
+    @Test
+    void charsAboveLatin1AreSkipped() {
+        ValidParentheses.Grammar brackets = ValidParentheses.Grammar.BRACKETS;
+        assertEquals(ValidParentheses.VALID, brackets.firstError("(中[😀])"));
+        // U+0128 and U+0129 share their low byte with '(' and ')'
+        assertEquals(ValidParentheses.VALID, brackets.firstError("Ĩĩ(Ĩ)"));
+        assertEquals(0, brackets.firstError("(ĩ"));
+        assertEquals(ValidParentheses.VALID, ValidParentheses.Grammar.JAVA.firstError("įĪ (Į)"));
+        assertThrows(IllegalArgumentException.class,
+            () -> ValidParentheses.Grammar.builder().pair('〈', '〉'));
+        assertThrows(IllegalArgumentException.class,
+            () -> ValidParentheses.Grammar.builder().lineComment("—"));
+    }
+}